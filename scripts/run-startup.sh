@@ -0,0 +1,12 @@
+#!/usr/bin/env bash
+# Run the `-Pstartup` build: AOT-initialized context + AppCDS archive.
+# Must be started from the same target/ layout the archive was trained on.
+set -euo pipefail
+cd "$(dirname "$0")/../target"
+
+# The archive only loads on the JDK that created it: use JAVA_HOME like the build does
+exec "${JAVA_HOME:+$JAVA_HOME/bin/}java" \
+  -XX:SharedArchiveFile=app.jsa \
+  -Dspring.aot.enabled=true \
+  -cp "prisoners-dilemma-1.0.0.jar:lib/*" \
+  com.axelrod.game.PrisonersDilemmaApplication "$@"
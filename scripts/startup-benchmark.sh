@@ -0,0 +1,82 @@
+#!/usr/bin/env bash
+# Startup benchmark: time to first successful GET /api/algorithms, and RSS
+# after a short warmup of real game traffic.
+#
+#   scripts/startup-benchmark.sh [runs]
+#
+# Measures both the plain fat jar (mvn package) and, if present, the
+# -Pstartup build (AOT + AppCDS). The server under test runs without the
+# per-client rate limits, which the warmup (all from localhost) would hit. Results are printed and appended to
+# bench_output.txt as one line per run:
+#   mode=<mode> run=<n> first_response_ms=<ms> rss_kb=<kb>
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+PORT=${PORT:-18080}
+WARMUP_GAMES=${WARMUP_GAMES:-200}
+URL="http://localhost:${PORT}/api"
+OUT=bench_output.txt
+# Same JDK as the build (and the CDS archive) when JAVA_HOME is set
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+
+# The AOT build fixes @ConditionalOnProperty at build time, so the limiter
+# may still be present there: raise its bursts as well.
+SERVER_ARGS=(--server.port="$PORT" --game.ratelimit.enabled=false
+  --game.ratelimit.start.burst=1000000000 --game.ratelimit.round.burst=1000000000)
+
+SERVER_PID=
+stop_server() {
+  if [ -n "$SERVER_PID" ]; then
+    kill "$SERVER_PID" 2>/dev/null || true
+    wait "$SERVER_PID" 2>/dev/null || true
+    SERVER_PID=
+  fi
+}
+trap stop_server EXIT
+
+now_ms() { date +%s%3N; }
+
+warmup() {
+  for _ in $(seq "$WARMUP_GAMES"); do
+    sid=$(curl -sf -H 'Content-Type: application/json' \
+      -d '{"algorithmId":"tit_for_tat","totalRounds":10,"randomMode":false}' \
+      "$URL/game/start" | sed -E 's/.*"sessionId":"([^"]+)".*/\1/')
+    for _ in $(seq 10); do
+      curl -sf -o /dev/null -H 'Content-Type: application/json' \
+        -d "{\"sessionId\":\"$sid\",\"playerChoice\":\"C\"}" "$URL/game/round"
+    done
+    curl -sf -o /dev/null "$URL/game/$sid/summary"
+    curl -sf -o /dev/null -X DELETE "$URL/game/$sid"
+  done
+}
+
+measure() {
+  local mode=$1; shift
+  for run in $(seq "$RUNS"); do
+    local start first rss
+    start=$(now_ms)
+    "$@" "${SERVER_ARGS[@]}" >/dev/null 2>&1 &
+    SERVER_PID=$!
+    until curl -sf -o /dev/null "$URL/algorithms"; do
+      kill -0 "$SERVER_PID" 2>/dev/null || { echo "$mode: server exited" >&2; return 1; }
+      sleep 0.01
+    done
+    first=$(( $(now_ms) - start ))
+    warmup
+    rss=$(awk '/VmRSS/ {print $2}' "/proc/$SERVER_PID/status")
+    stop_server
+
+    echo "mode=$mode run=$run first_response_ms=$first rss_kb=$rss" | tee -a "$OUT"
+  done
+}
+
+if ls target/*-exec.jar >/dev/null 2>&1; then
+  measure fatjar "$JAVA" -jar target/*-exec.jar
+elif [ -f target/prisoners-dilemma-1.0.0.jar ]; then
+  measure fatjar "$JAVA" -jar target/prisoners-dilemma-1.0.0.jar
+fi
+
+if [ -f target/app.jsa ]; then
+  measure aot-cds scripts/run-startup.sh
+fi
@@ -0,0 +1,87 @@
+package com.axelrod.game.ratelimit;
+
+import com.axelrod.game.algorithm.AlgorithmRegistry;
+import com.axelrod.game.analytics.MatchStore;
+import com.axelrod.game.model.Choice;
+import com.axelrod.game.model.Dto.*;
+import com.axelrod.game.service.GameService;
+import com.axelrod.game.service.MatchEngine;
+import com.axelrod.game.session.InMemorySessionRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the rate limiter relative to the playRound path it guards.
+ *
+ *   mvn -Pbench test-compile exec:exec
+ *
+ * Compare playRound vs limitedPlayRound (same thread count); the difference
+ * is the limiter's overhead per request. The limit is set high enough that
+ * every request takes the accept path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private static final String SHARED_CLIENT = "10.0.0.1";
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        final ClientRateLimiter limiter = new ClientRateLimiter("round", 1e9, 1_000_000, 100_000);
+        final GameService games = new GameService(new AlgorithmRegistry(), new InMemorySessionRepository(),
+            new MatchStore(), new MatchEngine(), 1_000_000, 10_000, 10_000);
+    }
+
+    @State(Scope.Thread)
+    public static class Player {
+        String client;
+        String sessionId;
+        int roundsLeft;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            client = "10.0." + (Thread.currentThread().threadId() % 250) + ".1";
+        }
+
+        /** Next round of this thread's game; starts a fresh 500-round game when one finishes. */
+        PlayRoundRequest next(GameService games) {
+            if (roundsLeft == 0) {
+                sessionId = games.startGame(new StartGameRequest("tit_for_tat", 500, false)).sessionId();
+                roundsLeft = 500;
+            }
+            roundsLeft--;
+            return new PlayRoundRequest(sessionId, Choice.C);
+        }
+    }
+
+    @Benchmark
+    public long limiterOnly(Shared s, Player p) {
+        return s.limiter.tryAcquire(p.client);
+    }
+
+    @Benchmark
+    public RoundResultResponse playRound(Shared s, Player p) {
+        return play(s, p);
+    }
+
+    @Benchmark
+    public RoundResultResponse limitedPlayRound(Shared s, Player p) {
+        if (s.limiter.tryAcquire(p.client) != 0) throw new IllegalStateException("limited");
+        return play(s, p);
+    }
+
+    /** Every thread hits the same client's bucket, so the CAS is actually contended. */
+    @Benchmark
+    @Threads(8)
+    public long limiterOnlyContended(Shared s) {
+        return s.limiter.tryAcquire(SHARED_CLIENT);
+    }
+
+    private static RoundResultResponse play(Shared s, Player p) {
+        return s.games.playRound(p.next(s.games));
+    }
+}
@@ -0,0 +1,333 @@
+package com.axelrod.game.loadtest;
+
+import com.axelrod.game.PrisonersDilemmaApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Simulates concurrent browser players against the REST API.
+ *
+ * Each player is a virtual thread that follows the main.ts flow:
+ *   GET /algorithms → POST /game/start → N × (think, POST /game/round)
+ *   → GET /game/{id}/summary → DELETE /game/{id}
+ *
+ * Without base-url the app is started in this JVM on a random port (rate
+ * limiting off), so heap/GC figures cover server + load generator. Any
+ * game.* option is passed to that embedded server, e.g.
+ * game.session.store=offheap, and recorded with the results.
+ *
+ * With base-url every player connects from this one machine, so a server
+ * running the default per-client rate limits (game.ratelimit.*) answers
+ * most starts and rounds with 429, counted as errors. Start that server
+ * with --game.ratelimit.enabled=false to measure the API itself.
+ *
+ *   mvn -Ploadtest test-compile exec:exec -Dloadtest.args="players=2000 rounds=50 think-ms=250"
+ *
+ * Options (key=value): players, games (per player), rounds, think-ms,
+ * ramp-up-ms, random-share (fraction of random-opponent games), base-url,
+ * label, output (JSON lines, one object per run), game.* (embedded server).
+ * Unknown options are rejected.
+ */
+public final class LoadTest {
+
+    private static final String[] OPS = {"algorithms", "start", "round", "summary", "delete"};
+    private static final Set<String> OPTIONS = Set.of(
+        "players", "games", "rounds", "think-ms", "ramp-up-ms", "random-share", "base-url", "label", "output");
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    record Config(int players, int games, int rounds, long thinkMs, long rampUpMs, double randomShare,
+                  String baseUrl, String label, String output, Map<String, String> serverProperties) {}
+
+    record OpStats(String op, long count, long errors, double throughputPerSec,
+                   double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs, double meanMs) {}
+
+    record JvmStats(boolean includesServer, long heapUsedMb, long heapPeakMb, long heapCommittedMb,
+                    long gcCount, long gcTimeMs, Map<String, long[]> collectors) {}
+
+    /** errors includes failedPlayers: players whose thread died with an exception. */
+    record RunResult(String label, String startedAt, Config config, double elapsedSec, long gamesCompleted,
+                     long requests, long errors, long failedPlayers, double requestsPerSec,
+                     List<OpStats> operations, JvmStats jvm) {}
+
+    private final Config config;
+    private final HttpClient http;
+    private final Map<String, Histogram> latency = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> errors = new LinkedHashMap<>();
+    private final AtomicLong gamesCompleted = new AtomicLong();
+
+    private LoadTest(Config config) {
+        this.config = config;
+        this.http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+        for (String op : OPS) {
+            latency.put(op, new ConcurrentHistogram(TimeUnit.SECONDS.toNanos(60), 3));
+            errors.put(op, new AtomicLong());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Config config = parse(args);
+
+        ConfigurableApplicationContext server = null;
+        String baseUrl = config.baseUrl();
+        if (baseUrl == null) {
+            Map<String, String> properties = new LinkedHashMap<>();
+            properties.put("server.port", "0");
+            properties.put("game.ratelimit.enabled", "false");
+            properties.put("logging.level.root", "WARN");
+            properties.put("logging.level.com.axelrod", "WARN");
+            properties.put("spring.main.banner-mode", "off");
+            properties.putAll(config.serverProperties());
+            server = new SpringApplication(PrisonersDilemmaApplication.class).run(
+                properties.entrySet().stream().map(e -> "--" + e.getKey() + "=" + e.getValue()).toArray(String[]::new));
+            int port = ((ServletWebServerApplicationContext) server).getWebServer().getPort();
+            baseUrl = "http://localhost:" + port + "/api";
+        }
+
+        try {
+            RunResult result = new LoadTest(config).run(baseUrl, server != null);
+            print(result);
+            Path output = Path.of(config.output());
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            Files.writeString(output, JSON.writeValueAsString(result) + System.lineSeparator(),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            System.out.println("Appended results to " + config.output());
+        } finally {
+            if (server != null) server.close();
+        }
+    }
+
+    private RunResult run(String baseUrl, boolean embedded) throws InterruptedException {
+        // Warm the connection pool and JIT a little so the first players don't skew percentiles
+        for (int i = 0; i < 50; i++) call("algorithms", get(baseUrl + "/algorithms"), false);
+        latency.values().forEach(Histogram::reset);
+        errors.values().forEach(e -> e.set(0));
+
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+        Map<String, long[]> gcBefore = gcSnapshot();
+        String startedAt = Instant.now().toString();   // plain ObjectMapper has no java.time module
+        long start = System.nanoTime();
+
+        List<Future<?>> running = new ArrayList<>(config.players());
+        try (ExecutorService players = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int p = 0; p < config.players(); p++) {
+                long delayMs = config.players() <= 1 ? 0 : config.rampUpMs() * p / (config.players() - 1);
+                running.add(players.submit(() -> {
+                    Thread.sleep(delayMs);
+                    for (int g = 0; g < config.games(); g++) playGame(baseUrl);
+                    return null;
+                }));
+            }
+        }   // close() waits for every player
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        long failedPlayers = 0;
+        for (Future<?> player : running) {
+            try {
+                player.get();
+            } catch (ExecutionException e) {
+                if (failedPlayers++ == 0) System.err.println("Player failed: " + e.getCause());
+            }
+        }
+        return new RunResult(config.label(), startedAt, config, elapsed, gamesCompleted.get(),
+            totalRequests(), totalErrors() + failedPlayers, failedPlayers, totalRequests() / elapsed,
+            opStats(elapsed), jvmStats(embedded, gcBefore));
+    }
+
+    /** One game, following main.ts. */
+    private void playGame(String baseUrl) throws InterruptedException {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        JsonNode algorithms = call("algorithms", get(baseUrl + "/algorithms"), true);
+        if (algorithms == null || algorithms.isEmpty()) return;
+
+        boolean randomMode = rnd.nextDouble() < config.randomShare();
+        String algorithmId = randomMode ? "" : algorithms.get(rnd.nextInt(algorithms.size())).get("id").asText();
+        JsonNode game = call("start", post(baseUrl + "/game/start", Map.of(
+            "algorithmId", algorithmId, "totalRounds", config.rounds(), "randomMode", randomMode)), true);
+        if (game == null) return;
+        String sessionId = game.get("sessionId").asText();
+
+        boolean finished = false;
+        while (!finished) {
+            think(rnd);
+            JsonNode round = call("round", post(baseUrl + "/game/round", Map.of(
+                "sessionId", sessionId, "playerChoice", rnd.nextInt(3) == 0 ? "D" : "C")), true);
+            if (round == null) break;
+            finished = round.get("finished").asBoolean();
+        }
+
+        think(rnd);
+        if (call("summary", get(baseUrl + "/game/" + sessionId + "/summary"), true) != null) {
+            gamesCompleted.incrementAndGet();
+        }
+        call("delete", HttpRequest.newBuilder(URI.create(baseUrl + "/game/" + sessionId)).DELETE().build(), false);
+    }
+
+    private JsonNode call(String op, HttpRequest request, boolean parse) throws InterruptedException {
+        long t0 = System.nanoTime();
+        try {
+            HttpResponse<String> resp = http.send(request, HttpResponse.BodyHandlers.ofString());
+            latency.get(op).recordValue(Math.min(System.nanoTime() - t0, TimeUnit.SECONDS.toNanos(60)));
+            if (resp.statusCode() >= 300) {
+                errors.get(op).incrementAndGet();
+                return null;
+            }
+            return parse ? JSON.readTree(resp.body()) : JSON.nullNode();
+        } catch (IOException e) {
+            errors.get(op).incrementAndGet();
+            return null;
+        }
+    }
+
+    private void think(ThreadLocalRandom rnd) throws InterruptedException {
+        if (config.thinkMs() > 0) Thread.sleep(rnd.nextLong(config.thinkMs() / 2, config.thinkMs() * 3 / 2 + 1));
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET().build();
+    }
+
+    private static HttpRequest post(String url, Object body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(body)))
+                .build();
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────
+    // REPORTING
+    // ─────────────────────────────────────────────────────────
+
+    private List<OpStats> opStats(double elapsed) {
+        List<OpStats> stats = new ArrayList<>();
+        for (String op : OPS) {
+            Histogram h = latency.get(op);
+            stats.add(new OpStats(op, h.getTotalCount(), errors.get(op).get(), h.getTotalCount() / elapsed,
+                ms(h.getValueAtPercentile(50)), ms(h.getValueAtPercentile(90)), ms(h.getValueAtPercentile(99)),
+                ms(h.getValueAtPercentile(99.9)), ms(h.getMaxValue()), h.getMean() / 1e6));
+        }
+        return stats;
+    }
+
+    private long totalRequests() {
+        return latency.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    private long totalErrors() {
+        return errors.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    private static JvmStats jvmStats(boolean embedded, Map<String, long[]> gcBefore) {
+        long used = 0, peak = 0, committed = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() != MemoryType.HEAP) continue;
+            used += pool.getUsage().getUsed();
+            committed += pool.getUsage().getCommitted();
+            peak += pool.getPeakUsage().getUsed();
+        }
+        Map<String, long[]> collectors = new LinkedHashMap<>();
+        long count = 0, time = 0;
+        for (var e : gcSnapshot().entrySet()) {
+            long[] before = gcBefore.getOrDefault(e.getKey(), new long[2]);
+            long[] delta = {e.getValue()[0] - before[0], e.getValue()[1] - before[1]};
+            collectors.put(e.getKey(), delta);
+            count += delta[0];
+            time += delta[1];
+        }
+        return new JvmStats(embedded, used >> 20, peak >> 20, committed >> 20, count, time, collectors);
+    }
+
+    /** collector name → {collections, time ms} */
+    private static Map<String, long[]> gcSnapshot() {
+        Map<String, long[]> snap = new LinkedHashMap<>();
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            snap.put(gc.getName(), new long[] {gc.getCollectionCount(), gc.getCollectionTime()});
+        }
+        return snap;
+    }
+
+    private static void print(RunResult r) {
+        System.out.printf("%n%s: %d players x %d games x %d rounds, think %d ms: %.1fs, %d games, %.0f req/s, %d errors (%d failed players)%n",
+            r.label(), r.config().players(), r.config().games(), r.config().rounds(), r.config().thinkMs(),
+            r.elapsedSec(), r.gamesCompleted(), r.requestsPerSec(), r.errors(), r.failedPlayers());
+        System.out.printf("%-11s %9s %7s %9s %8s %8s %8s %8s %8s%n",
+            "op", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (OpStats s : r.operations()) {
+            System.out.printf("%-11s %9d %7d %9.0f %8.2f %8.2f %8.2f %8.2f %8.2f%n",
+                s.op(), s.count(), s.errors(), s.throughputPerSec(), s.p50Ms(), s.p90Ms(), s.p99Ms(), s.p999Ms(), s.maxMs());
+        }
+        JvmStats j = r.jvm();
+        System.out.printf("heap used %d MB (peak %d MB, committed %d MB), GC %d collections / %d ms%s%n",
+            j.heapUsedMb(), j.heapPeakMb(), j.heapCommittedMb(), j.gcCount(), j.gcTimeMs(),
+            j.includesServer() ? " (server + load generator)" : " (load generator only)");
+    }
+
+    private static double ms(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static Config parse(String[] args) {
+        Map<String, String> opts = new HashMap<>();
+        for (String arg : args) {
+            for (String kv : arg.trim().split("\\s+")) {   // exec:exec may pass all options as one argument
+                if (kv.isEmpty()) continue;
+                int eq = kv.indexOf('=');
+                String key = eq > 0 ? kv.substring(0, eq) : kv;
+                if (eq <= 0 || !(OPTIONS.contains(key) || key.startsWith("game."))) {
+                    throw new IllegalArgumentException("Unknown option '" + kv + "' (expected key=value, keys: "
+                        + new TreeSet<>(OPTIONS) + ", game.*)");
+                }
+                opts.put(key, kv.substring(eq + 1));
+            }
+        }
+        Map<String, String> serverProperties = new TreeMap<>();
+        opts.forEach((k, v) -> { if (k.startsWith("game.")) serverProperties.put(k, v); });
+        if (!serverProperties.isEmpty() && opts.containsKey("base-url")) {
+            throw new IllegalArgumentException("game.* options only apply to the embedded server, not base-url");
+        }
+        int players = Integer.parseInt(opts.getOrDefault("players", "200"));
+        return new Config(
+            players,
+            Integer.parseInt(opts.getOrDefault("games", "1")),
+            Integer.parseInt(opts.getOrDefault("rounds", "50")),
+            Long.parseLong(opts.getOrDefault("think-ms", "100")),
+            Long.parseLong(opts.getOrDefault("ramp-up-ms", String.valueOf(Math.min(10_000, players * 5L)))),
+            Double.parseDouble(opts.getOrDefault("random-share", "0.2")),
+            opts.get("base-url"),
+            opts.getOrDefault("label", "run"),
+            opts.getOrDefault("output", "target/loadtest/results.jsonl"),
+            serverProperties
+        );
+    }
+}
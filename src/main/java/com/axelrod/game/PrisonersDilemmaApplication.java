@@ -1,8 +1,24 @@
 package com.axelrod.game;
 
+import com.axelrod.game.model.AlgorithmMeta;
+import com.axelrod.game.model.Dto.*;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+// Controllers return ResponseEntity<?>, so AOT cannot infer the JSON types — list them for native images
+@RegisterReflectionForBinding({
+    AlgorithmMeta.class,
+    StartGameRequest.class, StartGameResponse.class,
+    PlayRoundRequest.class, RoundResultResponse.class,
+    GameSummaryResponse.class, RoundHistoryEntry.class, LeaderboardEntry.class,
+    MatchRequest.class, MatchResponse.class,
+    AnalyticsRow.class, RoundCooperation.class,
+    JobRequest.class, JobStatusResponse.class, JobResultsPage.class,
+    PairResult.class, Standing.class, SweepPoint.class, PopulationSnapshot.class,
+    PluginStrategyStatus.class,
+    ErrorResponse.class
+})
 @SpringBootApplication
 public class PrisonersDilemmaApplication {
     public static void main(String[] args) {
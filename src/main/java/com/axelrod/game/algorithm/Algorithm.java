@@ -21,7 +21,9 @@ public interface Algorithm {
 
     /**
      * Decide next move based on history.
-     * @param history All previous rounds (empty on round 1).
+     * @param history All previous rounds (empty on round 1), from this
+     *                algorithm's side: playerChoice is its own move,
+     *                opponentChoice is the other side's.
      * @return C (cooperate) or D (defect).
      */
     Choice decide(List<RoundRecord> history);
@@ -4,16 +4,22 @@ import com.axelrod.game.model.AlgorithmMeta;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Central registry of all available tournament algorithms.
  * Injected as a Spring singleton wherever algorithm lookup is needed.
+ *
+ * The 12 built-ins are fixed; contributed strategies (see StrategyPluginLoader)
+ * can be added and removed at runtime but may not shadow a built-in id.
  */
 @Component
 public class AlgorithmRegistry {
 
-    private final Map<String, Algorithm> registry = new LinkedHashMap<>();
-    private final List<Algorithm> ordered;
+    private final Map<String, Algorithm> registry = new ConcurrentHashMap<>();
+    private final Set<String> builtInIds;
+    private volatile List<Algorithm> ordered;
 
     public AlgorithmRegistry() {
         List<Algorithm> all = List.of(
@@ -31,22 +37,55 @@ public class AlgorithmRegistry {
             new Algorithms.AlwaysDefect()
         );
         for (Algorithm a : all) registry.put(a.getId(), a);
-        ordered = Collections.unmodifiableList(all);
+        builtInIds = Set.copyOf(registry.keySet());
+        ordered = all;
     }
 
     public Optional<Algorithm> find(String id) {
-        return Optional.ofNullable(registry.get(id));
+        return id == null ? Optional.empty() : Optional.ofNullable(registry.get(id));
     }
 
     /** Returns a random algorithm from the registry. */
     public Algorithm random() {
-        List<Algorithm> list = new ArrayList<>(registry.values());
-        return list.get(new Random().nextInt(list.size()));
+        List<Algorithm> list = ordered;
+        return list.get(ThreadLocalRandom.current().nextInt(list.size()));
     }
 
     public List<Algorithm> all() { return ordered; }
 
+    /** True for the 12 built-ins; false for contributed (sandboxed) strategies and unknown ids. */
+    public boolean isBuiltIn(String id) {
+        return builtInIds.contains(id);
+    }
+
     public List<AlgorithmMeta> allMeta() {
         return ordered.stream().map(Algorithm::getMeta).toList();
     }
+
+    /**
+     * Add a contributed algorithm, replacing an earlier contribution with the same id.
+     * @throws IllegalArgumentException if the id belongs to a built-in.
+     */
+    public synchronized void register(Algorithm algorithm) {
+        if (builtInIds.contains(algorithm.getId())) {
+            throw new IllegalArgumentException("Cannot replace built-in algorithm: " + algorithm.getId());
+        }
+        Algorithm previous = registry.put(algorithm.getId(), algorithm);
+        List<Algorithm> next = new ArrayList<>(ordered);
+        if (previous != null) next.remove(previous);
+        next.add(algorithm);
+        ordered = List.copyOf(next);
+    }
+
+    /**
+     * Remove this contributed algorithm instance. No-op if its id has since
+     * been taken over by another contribution; built-ins are never removed.
+     */
+    public synchronized void unregister(Algorithm algorithm) {
+        if (builtInIds.contains(algorithm.getId())) return;
+        if (!registry.remove(algorithm.getId(), algorithm)) return;
+        List<Algorithm> next = new ArrayList<>(ordered);
+        next.remove(algorithm);
+        ordered = List.copyOf(next);
+    }
 }
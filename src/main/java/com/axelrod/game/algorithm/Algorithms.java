@@ -2,6 +2,7 @@ package com.axelrod.game.algorithm;
 
 import com.axelrod.game.model.AlgorithmMeta;
 import com.axelrod.game.model.Choice;
+import com.axelrod.game.model.PackedHistory;
 import com.axelrod.game.model.RoundRecord;
 
 import java.util.List;
@@ -23,6 +24,19 @@ public final class Algorithms {
 
     private Algorithms() {}
 
+    /**
+     * True if any round so far has opponentChoice D.
+     * O(1) on a PackedHistory, which keeps running defection counts — this keeps
+     * grim-trigger strategies linear over million-round bot matches.
+     */
+    static boolean anyOpponentDefection(List<RoundRecord> history) {
+        if (history instanceof PackedHistory packed) return packed.opponentDefections() > 0;
+        for (RoundRecord r : history) {
+            if (r.opponentChoice() == D) return true;
+        }
+        return false;
+    }
+
     // ─────────────────────────────────────────────────────────
     // 1. TIT FOR TAT — Anatol Rapoport's entry, rank #1
     //    Cooperate first. Mirror opponent's last move.
@@ -94,8 +108,7 @@ public final class Algorithms {
 
         @Override
         public Choice decide(List<RoundRecord> history) {
-            boolean everBetrayed = history.stream()
-                .anyMatch(r -> r.opponentChoice() == D);
+            boolean everBetrayed = anyOpponentDefection(history);
             return everBetrayed ? D : C;
         }
     }
@@ -138,8 +151,9 @@ public final class Algorithms {
         @Override
         public Choice decide(List<RoundRecord> history) {
             if (history.size() < 2) return C;
-            List<RoundRecord> last2 = history.subList(history.size() - 2, history.size());
-            boolean bothDefect = last2.stream().allMatch(r -> r.opponentChoice() == D);
+            int n = history.size();
+            boolean bothDefect = history.get(n - 1).opponentChoice() == D
+                              && history.get(n - 2).opponentChoice() == D;
             return bothDefect ? D : C;
         }
     }
@@ -239,8 +253,10 @@ public final class Algorithms {
             if (r == 2) return C;
 
             // Check if opponent ever retaliated during probe rounds 0–2
-            boolean opponentRetaliated = history.subList(0, Math.min(3, r))
-                .stream().anyMatch(h -> h.opponentChoice() == D);
+            boolean opponentRetaliated = false;
+            for (int i = 0; i < 3; i++) {
+                if (history.get(i).opponentChoice() == D) opponentRetaliated = true;
+            }
 
             if (!opponentRetaliated) return D; // Full exploitation
 
@@ -266,7 +282,7 @@ public final class Algorithms {
 
         @Override
         public Choice decide(List<RoundRecord> history) {
-            boolean everDefected = history.stream().anyMatch(r -> r.opponentChoice() == D);
+            boolean everDefected = anyOpponentDefection(history);
             return everDefected ? D : C;
         }
     }
@@ -291,7 +307,7 @@ public final class Algorithms {
         @Override
         public Choice decide(List<RoundRecord> history) {
             if (history.size() < GRACE_ROUNDS) return C;
-            boolean everDefected = history.stream().anyMatch(r -> r.opponentChoice() == D);
+            boolean everDefected = anyOpponentDefection(history);
             return everDefected ? D : C;
         }
     }
@@ -0,0 +1,75 @@
+package com.axelrod.game.analytics;
+
+import com.axelrod.game.model.Dto.AnalyticsRow;
+
+import java.util.Arrays;
+
+/**
+ * Group-by accumulator: one slot per integer group key, each aggregate in
+ * its own primitive array.
+ */
+final class AggregateTable {
+
+    private long[] count, wins, losses, playerScore, opponentScore, cc, cd, dc, dd;
+
+    AggregateTable(int keys) {
+        count = new long[keys];
+        wins = new long[keys];
+        losses = new long[keys];
+        playerScore = new long[keys];
+        opponentScore = new long[keys];
+        cc = new long[keys];
+        cd = new long[keys];
+        dc = new long[keys];
+        dd = new long[keys];
+    }
+
+    int keys() { return count.length; }
+
+    void ensureKeys(int keys) {
+        if (keys <= count.length) return;
+        count = Arrays.copyOf(count, keys);
+        wins = Arrays.copyOf(wins, keys);
+        losses = Arrays.copyOf(losses, keys);
+        playerScore = Arrays.copyOf(playerScore, keys);
+        opponentScore = Arrays.copyOf(opponentScore, keys);
+        cc = Arrays.copyOf(cc, keys);
+        cd = Arrays.copyOf(cd, keys);
+        dc = Arrays.copyOf(dc, keys);
+        dd = Arrays.copyOf(dd, keys);
+    }
+
+    void add(int key, long n, long w, long l, long ps, long os, long sCC, long sCD, long sDC, long sDD) {
+        count[key] += n;
+        wins[key] += w;
+        losses[key] += l;
+        playerScore[key] += ps;
+        opponentScore[key] += os;
+        cc[key] += sCC;
+        cd[key] += sCD;
+        dc[key] += sDC;
+        dd[key] += sDD;
+    }
+
+    boolean isEmpty(int key) { return count[key] == 0; }
+
+    AnalyticsRow row(int key, String group) {
+        long n = count[key];
+        long rounds = cc[key] + cd[key] + dc[key] + dd[key];
+        return new AnalyticsRow(
+            group,
+            n,
+            wins[key],
+            losses[key],
+            n - wins[key] - losses[key],
+            ratio(playerScore[key], n),
+            ratio(opponentScore[key], n),
+            ratio(cc[key] + cd[key], rounds),
+            ratio(cc[key] + dc[key], rounds)
+        );
+    }
+
+    private static double ratio(long a, long b) {
+        return b == 0 ? 0 : (double) a / b;
+    }
+}
@@ -0,0 +1,164 @@
+package com.axelrod.game.analytics;
+
+import com.axelrod.game.model.GameSession;
+import com.axelrod.game.model.PackedHistory;
+
+import java.util.Arrays;
+
+/**
+ * Completed matches against one algorithm, stored column-wise.
+ *
+ * Every column is a list of 64K-row short[] chunks (14 bytes per match in
+ * total), so scans are straight loops over primitive arrays that the JIT
+ * can unroll and vectorize. Per-round cooperation is pre-aggregated into
+ * counters indexed by round number, since storing every move would cost
+ * far more than the match rows themselves.
+ *
+ * Appends are serialized by the instance lock; scans are lock-free and see
+ * every row published before they read {@code size}.
+ */
+final class MatchColumns {
+
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK = 1 << CHUNK_BITS;
+
+    private short[][] rounds        = new short[0][];
+    private short[][] playerScore   = new short[0][];
+    private short[][] opponentScore = new short[0][];
+    private short[][] cc = new short[0][];
+    private short[][] cd = new short[0][];
+    private short[][] dc = new short[0][];
+    private short[][] dd = new short[0][];
+
+    // Indexed by round number - 1
+    private long[] reachedRound        = new long[0];
+    private long[] playerCoopByRound   = new long[0];
+    private long[] opponentCoopByRound = new long[0];
+
+    private volatile int size;
+
+    synchronized void append(GameSession session) {
+        PackedHistory history = session.getHistory();
+        int played = history.size();
+        int[] outcomes = new int[4];
+
+        if (reachedRound.length < played) {
+            reachedRound        = Arrays.copyOf(reachedRound, played);
+            playerCoopByRound   = Arrays.copyOf(playerCoopByRound, played);
+            opponentCoopByRound = Arrays.copyOf(opponentCoopByRound, played);
+        }
+        for (int i = 0; i < played; i++) {
+            int code = history.code(i);
+            outcomes[code]++;
+            reachedRound[i]++;
+            playerCoopByRound[i]   += ~code & 1;
+            opponentCoopByRound[i] += (~code >>> 1) & 1;
+        }
+
+        int row = size;
+        int c = row >>> CHUNK_BITS;
+        if (c == rounds.length) {
+            rounds        = grow(rounds);
+            playerScore   = grow(playerScore);
+            opponentScore = grow(opponentScore);
+            cc = grow(cc);
+            cd = grow(cd);
+            dc = grow(dc);
+            dd = grow(dd);
+        }
+        int i = row & (CHUNK - 1);
+        rounds[c][i]        = (short) played;
+        playerScore[c][i]   = (short) session.getPlayerScore();
+        opponentScore[c][i] = (short) session.getOpponentScore();
+        cc[c][i] = (short) outcomes[0];   // codes: bit 0 = player D, bit 1 = opponent D
+        dc[c][i] = (short) outcomes[1];
+        cd[c][i] = (short) outcomes[2];
+        dd[c][i] = (short) outcomes[3];
+
+        size = row + 1;   // publish
+    }
+
+    int size() { return size; }
+
+    /** Add every row with minRounds ≤ rounds ≤ maxRounds into one key of the table. */
+    void sumInto(AggregateTable t, int key, int minRounds, int maxRounds) {
+        int n = size;
+        long count = 0, wins = 0, losses = 0, ps = 0, os = 0, sCC = 0, sCD = 0, sDC = 0, sDD = 0;
+        for (int c = 0; c * CHUNK < n; c++) {
+            short[] r = rounds[c], p = playerScore[c], o = opponentScore[c];
+            short[] a = cc[c], b = cd[c], d = dc[c], e = dd[c];
+            int len = Math.min(CHUNK, n - c * CHUNK);
+            for (int i = 0; i < len; i++) {
+                int m = inRange(r[i], minRounds, maxRounds);
+                count  += m;
+                wins   += m & ((o[i] - p[i]) >>> 31);
+                losses += m & ((p[i] - o[i]) >>> 31);
+                ps  += m * p[i];
+                os  += m * o[i];
+                sCC += m * a[i];
+                sCD += m * b[i];
+                sDC += m * d[i];
+                sDD += m * e[i];
+            }
+        }
+        t.add(key, count, wins, losses, ps, os, sCC, sCD, sDC, sDD);
+    }
+
+    /** Round-count keys this partition needs (max rounds played + 1). */
+    synchronized int roundKeys() {
+        return reachedRound.length + 1;
+    }
+
+    /**
+     * Add every row into the table keyed by round count: base + rounds, or
+     * base + rounds × 3 + result when byResult. Rows with roundKeys or more
+     * rounds (appended after the caller sized the table) are skipped.
+     */
+    void sumByRounds(AggregateTable t, int base, int roundKeys, boolean byResult) {
+        int n = size;
+        int width = byResult ? 3 : 1;
+        int withResult = byResult ? 1 : 0;
+        for (int c = 0; c * CHUNK < n; c++) {
+            short[] r = rounds[c], p = playerScore[c], o = opponentScore[c];
+            short[] a = cc[c], b = cd[c], d = dc[c], e = dd[c];
+            int len = Math.min(CHUNK, n - c * CHUNK);
+            for (int i = 0; i < len; i++) {
+                int m = inRange(r[i], 0, roundKeys - 1);
+                int win = (o[i] - p[i]) >>> 31, loss = (p[i] - o[i]) >>> 31;
+                int key = base + (r[i] * width + withResult * (1 + win - loss)) * m;
+                t.add(key, m, m & win, m & loss, m * p[i], m * o[i], m * a[i], m * b[i], m * d[i], m * e[i]);
+            }
+        }
+    }
+
+    /** Add matching rows into the table keyed by result: base + 0 = LOSE, 1 = DRAW, 2 = WIN. */
+    void sumByResult(AggregateTable t, int base, int minRounds, int maxRounds) {
+        int n = size;
+        for (int c = 0; c * CHUNK < n; c++) {
+            short[] r = rounds[c], p = playerScore[c], o = opponentScore[c];
+            short[] a = cc[c], b = cd[c], d = dc[c], e = dd[c];
+            int len = Math.min(CHUNK, n - c * CHUNK);
+            for (int i = 0; i < len; i++) {
+                int m = inRange(r[i], minRounds, maxRounds);
+                int win = (o[i] - p[i]) >>> 31, loss = (p[i] - o[i]) >>> 31;
+                t.add(base + 1 + win - loss, m, m & win, m & loss, m * p[i], m * o[i], m * a[i], m * b[i], m * d[i], m * e[i]);
+            }
+        }
+    }
+
+    /** Per-round counters: [0] games reaching the round, [1] player C, [2] opponent C. */
+    synchronized long[][] cooperationByRound() {
+        return new long[][] { reachedRound.clone(), playerCoopByRound.clone(), opponentCoopByRound.clone() };
+    }
+
+    /** 1 if lo ≤ v ≤ hi, else 0 — without a branch. */
+    private static int inRange(int v, int lo, int hi) {
+        return ((v - lo) | (hi - v)) >>> 31 ^ 1;
+    }
+
+    private static short[][] grow(short[][] chunks) {
+        short[][] g = Arrays.copyOf(chunks, chunks.length + 1);
+        g[chunks.length] = new short[CHUNK];
+        return g;
+    }
+}
@@ -0,0 +1,133 @@
+package com.axelrod.game.analytics;
+
+import com.axelrod.game.model.Dto.AnalyticsRow;
+import com.axelrod.game.model.Dto.RoundCooperation;
+import com.axelrod.game.model.GameSession;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Retains every completed match for analytics, partitioned by algorithm id.
+ *
+ * Queries (see AnalyticsController):
+ *   groupBy   = none, or any comma-separated mix of algorithm, rounds, result
+ *               (e.g. "algorithm,rounds"); composite groups are keyed
+ *               partition × round count × result in one AggregateTable
+ *   filters   = algorithmId, minRounds, maxRounds
+ *   aggregates = matches, W/L/D, average scores, cooperation rates
+ */
+@Component
+public class MatchStore {
+
+    private static final String[] RESULTS = {"LOSE", "DRAW", "WIN"};
+    private static final Set<String> DIMENSIONS = Set.of("algorithm", "rounds", "result");
+
+    // algorithmId → columns
+    private final Map<String, MatchColumns> partitions = new ConcurrentHashMap<>();
+
+    /** Record a finished session. */
+    public void record(GameSession session) {
+        partitions.computeIfAbsent(session.getAlgorithmId(), k -> new MatchColumns()).append(session);
+    }
+
+    public long totalMatches() {
+        long n = 0;
+        for (MatchColumns p : partitions.values()) n += p.size();
+        return n;
+    }
+
+    public List<AnalyticsRow> query(String groupBy, String algorithmId, Integer minRounds, Integer maxRounds) {
+        int lo = minRounds == null ? 0 : minRounds;
+        int hi = maxRounds == null ? Short.MAX_VALUE : maxRounds;
+        Set<String> dims = dimensions(groupBy);
+        boolean byAlgorithm = dims.contains("algorithm");
+        boolean byRounds = dims.contains("rounds");
+        boolean byResult = dims.contains("result");
+
+        List<Map.Entry<String, MatchColumns>> selected = new ArrayList<>(new TreeMap<>(select(algorithmId)).entrySet());
+        int groups = byAlgorithm ? selected.size() : 1;
+        int roundKeys = 1;
+        if (byRounds) {
+            for (var e : selected) roundKeys = Math.max(roundKeys, e.getValue().roundKeys());
+        }
+        int resultKeys = byResult ? RESULTS.length : 1;
+        int width = (byRounds ? roundKeys : 1) * resultKeys;
+
+        AggregateTable t = new AggregateTable(groups * width);
+        for (int g = 0; g < selected.size(); g++) {
+            MatchColumns p = selected.get(g).getValue();
+            int base = byAlgorithm ? g * width : 0;
+            if (byRounds)      p.sumByRounds(t, base, roundKeys, byResult);
+            else if (byResult) p.sumByResult(t, base, lo, hi);
+            else               p.sumInto(t, base, lo, hi);
+        }
+
+        List<AnalyticsRow> rows = new ArrayList<>();
+        if (dims.isEmpty()) {
+            rows.add(t.row(0, "all"));
+            return rows;
+        }
+        int firstRound = byRounds ? Math.max(lo, 0) : 0;
+        int lastRound = byRounds ? Math.min(hi, roundKeys - 1) : 0;
+        for (int g = 0; g < groups; g++) {
+            for (int r = firstRound; r <= lastRound; r++) {
+                for (int k = resultKeys - 1; k >= 0; k--) {
+                    int key = g * width + r * resultKeys + k;
+                    if (t.isEmpty(key)) continue;
+                    StringJoiner group = new StringJoiner(",");
+                    if (byAlgorithm) group.add(selected.get(g).getKey());
+                    if (byRounds)    group.add(String.valueOf(r));
+                    if (byResult)    group.add(RESULTS[k]);
+                    rows.add(t.row(key, group.toString()));
+                }
+            }
+        }
+        return rows;
+    }
+
+    /** Cooperation rate per round number, over all matches (or those against one algorithm). */
+    public List<RoundCooperation> cooperationByRound(String algorithmId) {
+        long[] reached = new long[0], player = new long[0], opponent = new long[0];
+        for (MatchColumns p : select(algorithmId).values()) {
+            long[][] c = p.cooperationByRound();
+            if (c[0].length > reached.length) {
+                reached  = Arrays.copyOf(reached, c[0].length);
+                player   = Arrays.copyOf(player, c[0].length);
+                opponent = Arrays.copyOf(opponent, c[0].length);
+            }
+            for (int i = 0; i < c[0].length; i++) {
+                reached[i]  += c[0][i];
+                player[i]   += c[1][i];
+                opponent[i] += c[2][i];
+            }
+        }
+
+        List<RoundCooperation> rows = new ArrayList<>(reached.length);
+        for (int i = 0; i < reached.length; i++) {
+            rows.add(new RoundCooperation(i + 1, reached[i],
+                (double) player[i] / reached[i], (double) opponent[i] / reached[i]));
+        }
+        return rows;
+    }
+
+    /** Parse groupBy into its dimensions; "none" is the empty set. */
+    private static Set<String> dimensions(String groupBy) {
+        if (groupBy == null || groupBy.isBlank()) return Set.of("algorithm");
+        if (groupBy.equals("none")) return Set.of();
+        Set<String> dims = new HashSet<>();
+        for (String d : groupBy.split(",")) {
+            String dim = d.trim();
+            if (!DIMENSIONS.contains(dim)) throw new IllegalArgumentException("Unknown groupBy: " + dim);
+            if (!dims.add(dim)) throw new IllegalArgumentException("Duplicate groupBy: " + dim);
+        }
+        return dims;
+    }
+
+    private Map<String, MatchColumns> select(String algorithmId) {
+        if (algorithmId == null || algorithmId.isBlank()) return partitions;
+        MatchColumns p = partitions.get(algorithmId);
+        return p == null ? Map.of() : Map.of(algorithmId, p);
+    }
+}
@@ -0,0 +1,57 @@
+package com.axelrod.game.controller;
+
+import com.axelrod.game.analytics.MatchStore;
+import com.axelrod.game.model.Dto.*;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Aggregate queries over every completed match.
+ *
+ * Endpoints:
+ *   GET /api/analytics/matches               → group-by / filter aggregates
+ *   GET /api/analytics/cooperation-by-round  → cooperation rate per round number
+ */
+@Lazy
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    private final MatchStore matchStore;
+
+    public AnalyticsController(MatchStore matchStore) {
+        this.matchStore = matchStore;
+    }
+
+    // ─────────────────────────────────────────────────────────
+    // GET /api/analytics/matches
+    // Params: groupBy = none, or algorithm / rounds / result, comma-separated
+    //                   for composite groups, e.g. algorithm,rounds (default algorithm)
+    //         algorithmId, minRounds, maxRounds (all optional filters)
+    // ─────────────────────────────────────────────────────────
+    @GetMapping("/matches")
+    public ResponseEntity<?> queryMatches(
+            @RequestParam(required = false) String groupBy,
+            @RequestParam(required = false) String algorithmId,
+            @RequestParam(required = false) Integer minRounds,
+            @RequestParam(required = false) Integer maxRounds) {
+        try {
+            List<AnalyticsRow> rows = matchStore.query(groupBy, algorithmId, minRounds, maxRounds);
+            return ResponseEntity.ok(rows);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────
+    // GET /api/analytics/cooperation-by-round?algorithmId=prober
+    // ─────────────────────────────────────────────────────────
+    @GetMapping("/cooperation-by-round")
+    public ResponseEntity<List<RoundCooperation>> cooperationByRound(
+            @RequestParam(required = false) String algorithmId) {
+        return ResponseEntity.ok(matchStore.cooperationByRound(algorithmId));
+    }
+}
@@ -19,6 +19,7 @@ import java.util.NoSuchElementException;
  *   POST /api/game/round          → play a round
  *   GET  /api/game/{id}/summary   → get full match summary
  *   DELETE /api/game/{id}         → cleanup session
+ *   POST /api/match               → bot-vs-bot match, fully server-side
  */
 @RestController
 @RequestMapping("/api")
@@ -94,4 +95,19 @@ public class GameController {
         gameService.cleanupSession(sessionId);
         return ResponseEntity.noContent().build();
     }
+
+    // ─────────────────────────────────────────────────────────
+    // POST /api/match
+    // Body: { strategyA, strategyB | moves, rounds, includeHistory }
+    // Runs the whole match server-side; no session is created.
+    // ─────────────────────────────────────────────────────────
+    @PostMapping("/match")
+    public ResponseEntity<?> playMatch(@RequestBody MatchRequest req) {
+        try {
+            MatchResponse resp = gameService.playMatch(req);
+            return ResponseEntity.ok(resp);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
 }
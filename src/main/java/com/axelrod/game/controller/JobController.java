@@ -0,0 +1,90 @@
+package com.axelrod.game.controller;
+
+import com.axelrod.game.job.Job;
+import com.axelrod.game.job.JobService;
+import com.axelrod.game.job.SimulationJobs;
+import com.axelrod.game.model.Dto.*;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Long-running simulations (tournaments, sweeps, evolutionary runs).
+ *
+ * Endpoints:
+ *   POST   /api/jobs                     → submit, returns 202 + status
+ *   GET    /api/jobs/{id}                → status, progress, final result
+ *   GET    /api/jobs/{id}/results?from=n → partial results published since n
+ *   DELETE /api/jobs/{id}                → cancel
+ */
+@Lazy
+@RestController
+@RequestMapping("/api/jobs")
+public class JobController {
+
+    private final JobService jobService;
+    private final SimulationJobs simulations;
+
+    public JobController(JobService jobService, SimulationJobs simulations) {
+        this.jobService = jobService;
+        this.simulations = simulations;
+    }
+
+    // ─────────────────────────────────────────────────────────
+    // POST /api/jobs
+    // Body: { type, priority, algorithmIds, rounds, repetitions, roundCounts, generations }
+    // ─────────────────────────────────────────────────────────
+    @PostMapping
+    public ResponseEntity<?> submit(@RequestBody JobRequest req) {
+        try {
+            Job job = simulations.submit(req);
+            return ResponseEntity.accepted().body(job.toResponse());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────
+    // GET /api/jobs/{jobId}
+    // ─────────────────────────────────────────────────────────
+    @GetMapping("/{jobId}")
+    public ResponseEntity<?> getStatus(@PathVariable String jobId) {
+        return jobService.find(jobId)
+            .<ResponseEntity<?>>map(job -> ResponseEntity.ok(job.toResponse()))
+            .orElseGet(() -> notFound(jobId));
+    }
+
+    // ─────────────────────────────────────────────────────────
+    // GET /api/jobs/{jobId}/results?from=n
+    // Poll with the returned `next` to receive only new items. Only the last
+    // game.jobs.max-partial-results items are kept; older `from` values → 400.
+    // ─────────────────────────────────────────────────────────
+    @GetMapping("/{jobId}/results")
+    public ResponseEntity<?> getResults(@PathVariable String jobId, @RequestParam(defaultValue = "0") int from) {
+        try {
+            return jobService.results(jobId, from)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> notFound(jobId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────
+    // DELETE /api/jobs/{jobId}
+    // Cancel a queued or running job.
+    // ─────────────────────────────────────────────────────────
+    @DeleteMapping("/{jobId}")
+    public ResponseEntity<?> cancel(@PathVariable String jobId) {
+        if (jobService.find(jobId).isEmpty()) return notFound(jobId);
+        jobService.cancel(jobId);
+        return ResponseEntity.noContent().build();
+    }
+
+    private static ResponseEntity<?> notFound(String jobId) {
+        return ResponseEntity.status(404).body(new ErrorResponse("Job not found: " + jobId));
+    }
+}
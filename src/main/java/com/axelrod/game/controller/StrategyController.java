@@ -0,0 +1,63 @@
+package com.axelrod.game.controller;
+
+import com.axelrod.game.model.Dto.*;
+import com.axelrod.game.plugin.StrategyPluginLoader;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Contributed strategy plugins (enabled by game.strategies.dir).
+ *
+ * Endpoints:
+ *   GET  /api/strategies/plugins        → loaded strategies + budget metrics
+ *   POST /api/strategies/plugins/reload → rescan the directory now
+ *
+ * There is no authentication, so reload is off unless
+ * game.strategies.reload-endpoint=true (the directory is polled anyway)
+ * and is rate limited with the tournament category.
+ */
+@Lazy
+@RestController
+@RequestMapping("/api/strategies/plugins")
+public class StrategyController {
+
+    private final ObjectProvider<StrategyPluginLoader> loader;
+    private final boolean reloadEnabled;
+
+    public StrategyController(ObjectProvider<StrategyPluginLoader> loader,
+                              @Value("${game.strategies.reload-endpoint}") boolean reloadEnabled) {
+        this.loader = loader;
+        this.reloadEnabled = reloadEnabled;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<PluginStrategyStatus>> getPlugins() {
+        StrategyPluginLoader l = loader.getIfAvailable();
+        return ResponseEntity.ok(l == null ? List.of() : l.status());
+    }
+
+    @PostMapping("/reload")
+    public ResponseEntity<?> reload() {
+        if (!reloadEnabled) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(new ErrorResponse("Reload endpoint is disabled (game.strategies.reload-endpoint=false)."));
+        }
+        StrategyPluginLoader l = loader.getIfAvailable();
+        if (l == null) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Strategy plugins are disabled (game.strategies.dir not set)."));
+        }
+        try {
+            l.rescan();
+            return ResponseEntity.ok(l.status());
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.axelrod.game.job;
+
+import com.axelrod.game.model.Dto.JobStatusResponse;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One submitted job: status, progress counters, partial results and the
+ * final result. Also the handle the running JobWork reports through.
+ *
+ * Only the most recent maxPartialResults partial results are retained;
+ * older ones are dropped as new ones arrive, and reading from an index
+ * that has been dropped is rejected.
+ */
+public class Job {
+
+    private final String jobId = UUID.randomUUID().toString();
+    private final String type;
+    private final int priority;
+    private final long sequence;
+
+    private volatile JobStatus status = JobStatus.QUEUED;
+    private volatile long totalUnits;
+    private final AtomicLong completedUnits = new AtomicLong();
+    private final ArrayDeque<Object> partialResults = new ArrayDeque<>();
+    private final int maxPartialResults;
+    private int emitted;   // partial results published so far, including dropped ones
+    private volatile Object result;
+    private volatile String error;
+    private volatile Instant finishedAt;
+
+    private volatile boolean cancelRequested;
+    private volatile Thread worker;
+
+    Job(String type, int priority, long sequence, long totalUnits, int maxPartialResults) {
+        this.type = type;
+        this.maxPartialResults = maxPartialResults;
+        this.priority = priority;
+        this.sequence = sequence;
+        this.totalUnits = totalUnits;
+    }
+
+    // Getters
+    public String getJobId()      { return jobId; }
+    public String getType()       { return type; }
+    public int getPriority()      { return priority; }
+    public JobStatus getStatus()  { return status; }
+    public Instant getFinishedAt() { return finishedAt; }
+    long getSequence()            { return sequence; }
+
+    // ─────────────────────────────────────────────────────────
+    // Called by the running JobWork
+    // ─────────────────────────────────────────────────────────
+
+    /** Throws CancellationException if the job was cancelled; call this in every hot loop. */
+    public void checkCancelled() {
+        if (cancelRequested || Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Job cancelled: " + jobId);
+        }
+    }
+
+    public void setTotalUnits(long total) { this.totalUnits = total; }
+
+    public void advance(long units) { completedUnits.addAndGet(units); }
+
+    /** Publish a partial result; clients read these incrementally while the job runs. */
+    public void emit(Object partial) {
+        synchronized (partialResults) {
+            if (partialResults.size() == maxPartialResults) partialResults.pollFirst();
+            partialResults.addLast(partial);
+            emitted++;
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────
+    // Lifecycle (JobService)
+    // ─────────────────────────────────────────────────────────
+
+    /** @return false if the job was cancelled before it started. */
+    synchronized boolean start() {
+        if (status != JobStatus.QUEUED) return false;
+        status = JobStatus.RUNNING;
+        worker = Thread.currentThread();
+        return true;
+    }
+
+    synchronized void finish(JobStatus outcome, Object result, String error) {
+        worker = null;
+        if (status.isFinished()) return;
+        this.result = result;
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.status = outcome;
+    }
+
+    /** Request cooperative cancellation; the worker is also interrupted to break out of waits. */
+    synchronized boolean cancel() {
+        if (status.isFinished()) return false;
+        cancelRequested = true;
+        if (status == JobStatus.QUEUED) {
+            finish(JobStatus.CANCELLED, null, null);
+        } else if (worker != null) {
+            worker.interrupt();
+        }
+        return true;
+    }
+
+    /** Partial results starting at index {@code start} (the requested index, clamped to what was published). */
+    record Page(int start, List<Object> items) {}
+
+    /**
+     * Partial results from index {@code from} on.
+     * @throws IllegalArgumentException if items from that index were already dropped.
+     */
+    Page partialResults(int from) {
+        synchronized (partialResults) {
+            int first = emitted - partialResults.size();
+            int start = Math.clamp(from, 0, emitted);
+            if (start < first) {
+                throw new IllegalArgumentException("Partial results before " + first + " are no longer retained");
+            }
+            List<Object> items = new ArrayList<>(emitted - start);
+            Iterator<Object> it = partialResults.iterator();
+            for (int i = first; i < emitted; i++) {
+                Object item = it.next();
+                if (i >= start) items.add(item);
+            }
+            return new Page(start, items);
+        }
+    }
+
+    public JobStatusResponse toResponse() {
+        int partials;
+        synchronized (partialResults) {
+            partials = emitted;
+        }
+        return new JobStatusResponse(jobId, type, priority, status.name(),
+            completedUnits.get(), totalUnits, partials, result, error);
+    }
+}
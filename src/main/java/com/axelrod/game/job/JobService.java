@@ -0,0 +1,153 @@
+package com.axelrod.game.job;
+
+import com.axelrod.game.model.Dto.JobResultsPage;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs long simulations off the request threads.
+ *
+ * - Bounded concurrency: at most game.jobs.max-concurrent jobs run at once
+ *   (default: half the cores), on low-priority daemon threads, so Tomcat
+ *   threads serving playRound always have CPU left.
+ * - Priorities: queued jobs start highest priority first, FIFO within a priority.
+ * - Admission: submit() fails once game.jobs.max-queued jobs are waiting.
+ * - Cancellation: cooperative via Job.checkCancelled(), plus an interrupt.
+ * - Retention: finished jobs (and their results) are dropped after game.jobs.result-ttl;
+ *   each job keeps only its last game.jobs.max-partial-results partial results.
+ */
+@Lazy
+@Service
+public class JobService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobService.class);
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService janitor;
+    private final int maxQueued;
+    private final Duration resultTtl;
+    private final int maxPartialResults;
+
+    public JobService(@Value("${game.jobs.max-concurrent}") int maxConcurrent,
+                      @Value("${game.jobs.max-queued}") int maxQueued,
+                      @Value("${game.jobs.result-ttl}") Duration resultTtl,
+                      @Value("${game.jobs.max-partial-results}") int maxPartialResults) {
+        int threads = maxConcurrent > 0 ? maxConcurrent : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        if (maxPartialResults < 1) throw new IllegalArgumentException("game.jobs.max-partial-results must be positive");
+        this.maxQueued = maxQueued;
+        this.resultTtl = resultTtl;
+        this.maxPartialResults = maxPartialResults;
+
+        AtomicInteger n = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new PriorityBlockingQueue<>(),
+            r -> {
+                Thread t = new Thread(r, "job-worker-" + n.incrementAndGet());
+                t.setDaemon(true);
+                t.setPriority(Thread.MIN_PRIORITY);
+                return t;
+            });
+
+        this.janitor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "job-janitor");
+            t.setDaemon(true);
+            return t;
+        });
+        janitor.scheduleWithFixedDelay(this::expire, 1, 1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Queue a job.
+     * @throws IllegalStateException if the queue is full.
+     */
+    public Job submit(String type, int priority, long totalUnits, JobWork work) {
+        if (workers.getQueue().size() >= maxQueued) {
+            throw new IllegalStateException("Job queue is full (" + maxQueued + " waiting). Try again later.");
+        }
+        Job job = new Job(type, priority, sequence.incrementAndGet(), totalUnits, maxPartialResults);
+        jobs.put(job.getJobId(), job);
+        workers.execute(new QueuedJob(job, work));
+        return job;
+    }
+
+    public Optional<Job> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /** @return false if the job is unknown or already finished. */
+    public boolean cancel(String jobId) {
+        Job job = jobs.get(jobId);
+        return job != null && job.cancel();
+    }
+
+    /**
+     * Partial results published since index {@code from}.
+     * @throws IllegalArgumentException if items from that index were already dropped.
+     */
+    public Optional<JobResultsPage> results(String jobId, int from) {
+        return find(jobId).map(job -> {
+            boolean finished = job.getStatus().isFinished();   // read first so no item is missed
+            Job.Page page = job.partialResults(from);
+            return new JobResultsPage(jobId, page.start(), page.start() + page.items().size(), finished, page.items());
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        janitor.shutdownNow();
+        jobs.values().forEach(Job::cancel);
+        workers.shutdownNow();
+    }
+
+    private void expire() {
+        Instant cutoff = Instant.now().minus(resultTtl);
+        jobs.values().removeIf(j -> j.getStatus().isFinished() && j.getFinishedAt().isBefore(cutoff));
+    }
+
+    /** Queue entry ordered by priority (desc), then submission order. */
+    private static final class QueuedJob implements Runnable, Comparable<QueuedJob> {
+        private final Job job;
+        private final JobWork work;
+
+        QueuedJob(Job job, JobWork work) {
+            this.job = job;
+            this.work = work;
+        }
+
+        @Override
+        public void run() {
+            if (!job.start()) return;   // cancelled while queued
+            try {
+                Object result = work.run(job);
+                job.finish(JobStatus.SUCCEEDED, result, null);
+            } catch (CancellationException | InterruptedException e) {
+                job.finish(JobStatus.CANCELLED, null, null);
+            } catch (Exception e) {
+                log.warn("Job {} ({}) failed", job.getJobId(), job.getType(), e);
+                job.finish(JobStatus.FAILED, null, e.getMessage());
+            } finally {
+                Thread.interrupted();   // don't leak a late cancel() interrupt to the next job
+            }
+        }
+
+        @Override
+        public int compareTo(QueuedJob o) {
+            int byPriority = Integer.compare(o.job.getPriority(), job.getPriority());
+            return byPriority != 0 ? byPriority : Long.compare(job.getSequence(), o.job.getSequence());
+        }
+    }
+}
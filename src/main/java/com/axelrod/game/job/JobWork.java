@@ -0,0 +1,13 @@
+package com.axelrod.game.job;
+
+/**
+ * The body of a job. Implementations report progress and partial results
+ * through the Job, and must call {@link Job#checkCancelled()} often enough
+ * (every few milliseconds of CPU) for cancellation to take effect.
+ */
+@FunctionalInterface
+public interface JobWork {
+
+    /** @return the final result, retained until the job expires. */
+    Object run(Job job) throws Exception;
+}
@@ -0,0 +1,212 @@
+package com.axelrod.game.job;
+
+import com.axelrod.game.algorithm.Algorithm;
+import com.axelrod.game.algorithm.AlgorithmRegistry;
+import com.axelrod.game.model.Dto.*;
+import com.axelrod.game.service.MatchEngine;
+import com.axelrod.game.service.MatchEngine.MatchResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Turns a JobRequest into a JobWork and submits it.
+ *
+ * Job types:
+ *   tournament — round-robin (including self-play) between the algorithms,
+ *                `repetitions` matches of `rounds` rounds per pairing
+ *   sweep      — one tournament per entry of `roundCounts`
+ *   evolution  — Axelrod's ecological simulation: tournament scores drive
+ *                population shares over `generations` generations
+ *
+ * Priorities are clamped to [MIN_PRIORITY, MAX_PRIORITY]. A job whose
+ * matches add up to more than game.jobs.max-rounds-per-job rounds is
+ * rejected before it is queued.
+ */
+@Lazy
+@Component
+public class SimulationJobs {
+
+    private static final int MAX_ROUNDS = 1_000_000;
+    private static final int MAX_REPETITIONS = 1_000;
+    private static final int MAX_GENERATIONS = 100_000;
+    private static final int MAX_ALGORITHMS = 64;
+    private static final int MAX_ROUND_COUNTS = 100;
+    static final int MIN_PRIORITY = -10;
+    static final int MAX_PRIORITY = 10;
+
+    private final JobService jobService;
+    private final AlgorithmRegistry registry;
+    private final MatchEngine engine;
+    private final long maxRoundsPerJob;
+
+    public SimulationJobs(JobService jobService, AlgorithmRegistry registry, MatchEngine engine,
+                          @Value("${game.jobs.max-rounds-per-job}") long maxRoundsPerJob) {
+        this.jobService = jobService;
+        this.registry = registry;
+        this.engine = engine;
+        this.maxRoundsPerJob = maxRoundsPerJob;
+    }
+
+    public Job submit(JobRequest req) {
+        List<Algorithm> algos = resolve(req.algorithmIds());
+        int rounds      = Math.clamp(orDefault(req.rounds(), 200), 1, MAX_ROUNDS);
+        int repetitions = Math.clamp(orDefault(req.repetitions(), 5), 1, MAX_REPETITIONS);
+        int priority    = Math.clamp(orDefault(req.priority(), 0), MIN_PRIORITY, MAX_PRIORITY);
+        long pairings   = (long) algos.size() * (algos.size() + 1) / 2;
+
+        return switch (req.type() == null ? "" : req.type()) {
+            case "tournament" -> {
+                checkBudget(pairings * repetitions * rounds);
+                yield jobService.submit("tournament", priority, pairings * repetitions,
+                    job -> standings(algos, tournament(job, algos, rounds, repetitions, true)));
+            }
+
+            case "sweep" -> {
+                List<Integer> counts = req.roundCounts() == null || req.roundCounts().isEmpty()
+                    ? List.of(rounds) : req.roundCounts();
+                List<Integer> clamped = counts.stream().map(r -> Math.clamp(r, 1, MAX_ROUNDS)).distinct().toList();
+                if (clamped.size() > MAX_ROUND_COUNTS) {
+                    throw new IllegalArgumentException("At most " + MAX_ROUND_COUNTS + " distinct roundCounts per sweep");
+                }
+                checkBudget(pairings * repetitions * clamped.stream().mapToLong(Integer::longValue).sum());
+                yield jobService.submit("sweep", priority, pairings * repetitions * clamped.size(),
+                    job -> sweep(job, algos, clamped, repetitions));
+            }
+
+            case "evolution" -> {
+                int generations = Math.clamp(orDefault(req.generations(), 1000), 1, MAX_GENERATIONS);
+                checkBudget(pairings * repetitions * rounds);
+                yield jobService.submit("evolution", priority, pairings * repetitions + generations,
+                    job -> evolution(job, algos, rounds, repetitions, generations));
+            }
+
+            default -> throw new IllegalArgumentException("Unknown job type: " + req.type());
+        };
+    }
+
+    // ─────────────────────────────────────────────────────────
+    // SIMULATIONS
+    // ─────────────────────────────────────────────────────────
+
+    /**
+     * Round-robin; returns the mean score of algorithm i against j (per match).
+     * Self-play counts once toward the algorithm's own row.
+     */
+    private double[][] tournament(Job job, List<Algorithm> algos, int rounds, int repetitions, boolean emitPairs) {
+        int n = algos.size();
+        double[][] mean = new double[n][n];
+        for (int rep = 1; rep <= repetitions; rep++) {
+            for (int i = 0; i < n; i++) {
+                for (int j = i; j < n; j++) {
+                    job.checkCancelled();
+                    Algorithm a = algos.get(i), b = algos.get(j);
+                    MatchResult r = engine.play(a, b, rounds, job::checkCancelled);
+                    mean[i][j] += (double) r.scoreA() / repetitions;
+                    if (i != j) mean[j][i] += (double) r.scoreB() / repetitions;
+                    if (emitPairs) job.emit(new PairResult(a.getId(), b.getId(), rep, r.scoreA(), r.scoreB()));
+                    job.advance(1);
+                }
+            }
+        }
+        return mean;
+    }
+
+    private List<SweepPoint> sweep(Job job, List<Algorithm> algos, List<Integer> roundCounts, int repetitions) {
+        List<SweepPoint> points = new ArrayList<>();
+        for (int rounds : roundCounts) {
+            SweepPoint point = new SweepPoint(rounds, standings(algos, tournament(job, algos, rounds, repetitions, false)));
+            job.emit(point);
+            points.add(point);
+        }
+        return points;
+    }
+
+    /** Replicator dynamics: next share ∝ share × expected score against the current population. */
+    private List<PopulationSnapshot> evolution(Job job, List<Algorithm> algos, int rounds, int repetitions, int generations) {
+        double[][] payoff = tournament(job, algos, rounds, repetitions, false);
+        int n = algos.size();
+        double[] share = new double[n];
+        Arrays.fill(share, 1.0 / n);
+
+        int every = Math.max(1, generations / 100);
+        List<PopulationSnapshot> snapshots = new ArrayList<>();
+        snapshots.add(snapshot(0, algos, share));
+        job.emit(snapshots.getLast());
+
+        double[] next = new double[n];
+        for (int g = 1; g <= generations; g++) {
+            job.checkCancelled();
+            double total = 0;
+            for (int i = 0; i < n; i++) {
+                double fitness = 0;
+                for (int j = 0; j < n; j++) fitness += share[j] * payoff[i][j];
+                next[i] = share[i] * fitness;
+                total += next[i];
+            }
+            for (int i = 0; i < n; i++) share[i] = total == 0 ? share[i] : next[i] / total;
+
+            if (g % every == 0 || g == generations) {
+                snapshots.add(snapshot(g, algos, share));
+                job.emit(snapshots.getLast());
+            }
+            job.advance(1);
+        }
+        return snapshots;
+    }
+
+    // ─────────────────────────────────────────────────────────
+    // HELPERS
+    // ─────────────────────────────────────────────────────────
+
+    private List<Standing> standings(List<Algorithm> algos, double[][] mean) {
+        record Row(Algorithm algo, double total) {}
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < algos.size(); i++) {
+            rows.add(new Row(algos.get(i), Arrays.stream(mean[i]).sum()));
+        }
+        rows.sort(Comparator.comparingDouble(Row::total).reversed());
+
+        List<Standing> ranked = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Row r = rows.get(i);
+            ranked.add(new Standing(i + 1, r.algo().getId(), r.algo().getMeta().name(),
+                Math.round(r.total()), r.total() / algos.size()));
+        }
+        return ranked;
+    }
+
+    private static PopulationSnapshot snapshot(int generation, List<Algorithm> algos, double[] share) {
+        Map<String, Double> shares = new LinkedHashMap<>();
+        for (int i = 0; i < algos.size(); i++) shares.put(algos.get(i).getId(), share[i]);
+        return new PopulationSnapshot(generation, shares);
+    }
+
+    /** Rejects a job that would play more than maxRoundsPerJob rounds in total. */
+    private void checkBudget(long totalRounds) {
+        if (totalRounds > maxRoundsPerJob) {
+            throw new IllegalArgumentException("Job would play " + totalRounds + " rounds; the limit is " + maxRoundsPerJob
+                + " (reduce algorithms, rounds, repetitions or roundCounts)");
+        }
+    }
+
+    /** Distinct algorithms in request order (default: all registered), at most MAX_ALGORITHMS. */
+    private List<Algorithm> resolve(List<String> ids) {
+        List<Algorithm> algos = ids == null || ids.isEmpty()
+            ? registry.all()
+            : ids.stream()
+                .distinct()
+                .map(id -> registry.find(id).orElseThrow(() -> new IllegalArgumentException("Unknown algorithm: " + id)))
+                .toList();
+        if (algos.size() > MAX_ALGORITHMS) {
+            throw new IllegalArgumentException("At most " + MAX_ALGORITHMS + " algorithms per job");
+        }
+        return algos;
+    }
+
+    private static int orDefault(Integer value, int fallback) {
+        return value == null ? fallback : value;
+    }
+}
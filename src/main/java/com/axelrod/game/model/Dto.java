@@ -1,6 +1,7 @@
 package com.axelrod.game.model;
 
 import java.util.List;
+import java.util.Map;
 
 // ---------- Requests ----------
 
@@ -10,6 +11,24 @@ public class Dto {
 
     public record PlayRoundRequest(String sessionId, Choice playerChoice) {}
 
+    public record MatchRequest(
+        String strategyA,           // registry id
+        String strategyB,           // registry id, or null when `moves` is given
+        String moves,               // fixed sequence for side B, e.g. "CCDCD" (cycled)
+        int rounds,
+        boolean includeHistory
+    ) {}
+
+    public record JobRequest(
+        String type,                // tournament / sweep / evolution
+        Integer priority,           // higher runs first; default 0, clamped to -10..10
+        List<String> algorithmIds,  // default: every registered algorithm
+        Integer rounds,             // rounds per match (tournament, evolution)
+        Integer repetitions,        // matches per pairing
+        List<Integer> roundCounts,  // sweep: one tournament per round count
+        Integer generations         // evolution
+    ) {}
+
     // ---------- Responses ----------
 
     public record StartGameResponse(
@@ -50,6 +69,20 @@ public class Dto {
         List<LeaderboardEntry> leaderboard
     ) {}
 
+    public record MatchResponse(
+        String strategyA,
+        String strategyB,
+        int rounds,
+        long scoreA,
+        long scoreB,
+        String result,        // WIN / LOSE / DRAW, from A's side
+        int mutualCoopCount,
+        int mutualDefectCount,
+        int betrayedCount,    // B defected while A cooperated
+        int betrayalCount,    // A defected while B cooperated
+        List<RoundHistoryEntry> history   // null unless requested; player = A, opponent = B
+    ) {}
+
     public record RoundHistoryEntry(
         int round,
         Choice playerChoice,
@@ -65,5 +98,66 @@ public class Dto {
         boolean isPlayer
     ) {}
 
+    public record AnalyticsRow(
+        String group,
+        long matches,
+        long wins,              // player outscored the algorithm
+        long losses,
+        long draws,
+        double avgPlayerScore,
+        double avgOpponentScore,
+        double playerCoopRate,  // share of rounds the player cooperated
+        double opponentCoopRate
+    ) {}
+
+    public record RoundCooperation(
+        int round,
+        long matches,           // matches that reached this round
+        double playerCoopRate,
+        double opponentCoopRate
+    ) {}
+
+    public record JobStatusResponse(
+        String jobId,
+        String type,
+        int priority,
+        String status,        // QUEUED / RUNNING / SUCCEEDED / FAILED / CANCELLED
+        long completedUnits,
+        long totalUnits,
+        int partialResults,
+        Object result,        // set once SUCCEEDED
+        String error          // set once FAILED
+    ) {}
+
+    public record JobResultsPage(
+        String jobId,
+        int from,
+        int next,             // pass as ?from= to get only newer items
+        boolean finished,
+        List<Object> items
+    ) {}
+
+    public record PairResult(String algorithmA, String algorithmB, int repetition, long scoreA, long scoreB) {}
+
+    public record Standing(int rank, String algorithmId, String name, long totalScore, double averageScore) {}
+
+    public record SweepPoint(int rounds, List<Standing> standings) {}
+
+    public record PopulationSnapshot(int generation, Map<String, Double> shares) {}
+
+    public record PluginStrategyStatus(
+        String algorithmId,
+        String name,
+        String source,            // jar the strategy was loaded from
+        boolean quarantined,      // disabled after too many budget violations
+        long calls,
+        long avgCpuMicros,
+        long avgAllocatedBytes,
+        long timeouts,
+        long cpuViolations,
+        long allocationViolations,
+        long failures             // decide() threw
+    ) {}
+
     public record ErrorResponse(String error) {}
 }
@@ -1,7 +1,5 @@
 package com.axelrod.game.model;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.UUID;
 
 public class GameSession {
@@ -14,14 +12,43 @@ public class GameSession {
     private int currentRound = 0;
     private int playerScore = 0;
     private int opponentScore = 0;
-    private final List<RoundRecord> history = new ArrayList<>();
+    private final PackedHistory history;
     private boolean finished = false;
 
     public GameSession(String algorithmId, int totalRounds, boolean randomMode) {
-        this.sessionId = UUID.randomUUID().toString();
+        this(UUID.randomUUID().toString(), algorithmId, totalRounds, randomMode, new PackedHistory(totalRounds));
+    }
+
+    /** Restore a session (e.g. from a SessionRepository); scores are recomputed from the history. */
+    public GameSession(String sessionId, String algorithmId, int totalRounds, boolean randomMode, PackedHistory history) {
+        this.sessionId = sessionId;
         this.algorithmId = algorithmId;
         this.totalRounds = totalRounds;
         this.randomMode = randomMode;
+        this.history = history;
+        for (RoundRecord r : history) {
+            playerScore   += r.playerPoints();
+            opponentScore += r.opponentPoints();
+        }
+        currentRound = history.size();
+        finished = currentRound >= totalRounds;
+    }
+
+    private GameSession(GameSession other) {
+        this.sessionId = other.sessionId;
+        this.algorithmId = other.algorithmId;
+        this.totalRounds = other.totalRounds;
+        this.randomMode = other.randomMode;
+        this.history = other.history.copy();
+        this.currentRound = other.currentRound;
+        this.playerScore = other.playerScore;
+        this.opponentScore = other.opponentScore;
+        this.finished = other.finished;
+    }
+
+    /** Independent copy; rounds added to either one are not seen by the other. */
+    public GameSession copy() {
+        return new GameSession(this);
     }
 
     // Getters
@@ -32,7 +59,7 @@ public class GameSession {
     public int getCurrentRound()     { return currentRound; }
     public int getPlayerScore()      { return playerScore; }
     public int getOpponentScore()    { return opponentScore; }
-    public List<RoundRecord> getHistory() { return history; }
+    public PackedHistory getHistory() { return history; }
     public boolean isFinished()      { return finished; }
 
     public void addRound(RoundRecord record) {
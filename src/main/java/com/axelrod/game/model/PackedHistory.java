@@ -0,0 +1,120 @@
+package com.axelrod.game.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Round history stored as 2 bits per round (32 rounds per long) instead of
+ * one RoundRecord object per round. Reads hand back the shared RoundRecord
+ * instances from {@link RoundRecord#of}, so algorithms still see a plain
+ * List<RoundRecord> while a 500-round game costs 16 longs.
+ *
+ * Append-only: rounds are added with add(...) / append(...), never removed.
+ */
+public final class PackedHistory extends AbstractList<RoundRecord> implements RandomAccess {
+
+    public static final int ROUNDS_PER_WORD = 32;
+
+    /** Bit 0 of every 2-bit round code (the playerChoice bit). */
+    private static final long EVEN_BITS = 0x5555_5555_5555_5555L;
+
+    private long[] words;
+    private int size;
+    private int playerDefections;
+    private int opponentDefections;
+
+    public PackedHistory() {
+        this(ROUNDS_PER_WORD);
+    }
+
+    public PackedHistory(int expectedRounds) {
+        this.words = new long[wordsFor(Math.max(expectedRounds, 1))];
+    }
+
+    /** Rebuild a history from its packed words (as produced by {@link #word(int)}). */
+    public static PackedHistory fromWords(long[] packed, int rounds) {
+        PackedHistory h = new PackedHistory(rounds);
+        System.arraycopy(packed, 0, h.words, 0, wordsFor(rounds));
+        h.size = rounds;
+        for (int i = 0; i < rounds; i++) {
+            int code = h.code(i);
+            h.playerDefections   += code & 1;
+            h.opponentDefections += code >>> 1;
+        }
+        return h;
+    }
+
+    /** Independent copy of this history; later appends to either side are not shared. */
+    public PackedHistory copy() {
+        PackedHistory h = new PackedHistory(size);
+        System.arraycopy(words, 0, h.words, 0, wordsFor(size));
+        h.size = size;
+        h.playerDefections = playerDefections;
+        h.opponentDefections = opponentDefections;
+        return h;
+    }
+
+    /**
+     * Copy with the two sides swapped: playerChoice becomes opponentChoice
+     * and vice versa. Lets a strategy read a history recorded from the other
+     * side's point of view.
+     */
+    public PackedHistory mirrored() {
+        PackedHistory h = new PackedHistory(size);
+        for (int i = 0, n = wordsFor(size); i < n; i++) {
+            long w = words[i];
+            h.words[i] = ((w & EVEN_BITS) << 1) | ((w >>> 1) & EVEN_BITS);
+        }
+        h.size = size;
+        h.playerDefections = opponentDefections;
+        h.opponentDefections = playerDefections;
+        return h;
+    }
+
+    /** Number of longs needed to hold the given number of rounds. */
+    public static int wordsFor(int rounds) {
+        return (rounds + ROUNDS_PER_WORD - 1) / ROUNDS_PER_WORD;
+    }
+
+    @Override
+    public RoundRecord get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Round " + index + " of " + size);
+        return RoundRecord.ofCode(code(index));
+    }
+
+    @Override
+    public int size() { return size; }
+
+    @Override
+    public boolean add(RoundRecord record) {
+        append(record.playerChoice(), record.opponentChoice());
+        return true;
+    }
+
+    public void append(Choice playerChoice, Choice opponentChoice) {
+        appendCode(RoundRecord.code(playerChoice, opponentChoice));
+    }
+
+    /** Append a 2-bit outcome code (see {@link RoundRecord#code}). */
+    public void appendCode(int code) {
+        int w = size / ROUNDS_PER_WORD;
+        if (w == words.length) words = Arrays.copyOf(words, words.length * 2);
+        words[w] |= (long) code << ((size % ROUNDS_PER_WORD) * 2);
+        size++;
+        playerDefections   += code & 1;
+        opponentDefections += code >>> 1;
+        modCount++;
+    }
+
+    /** 2-bit outcome code of the given round. */
+    public int code(int index) {
+        return (int) (words[index / ROUNDS_PER_WORD] >>> ((index % ROUNDS_PER_WORD) * 2)) & 3;
+    }
+
+    /** Packed word i, for serialization; {@link #wordsFor}(size()) words are meaningful. */
+    public long word(int i) { return words[i]; }
+
+    public int playerDefections()   { return playerDefections; }
+    public int opponentDefections() { return opponentDefections; }
+}
@@ -1,3 +1,27 @@
 package com.axelrod.game.model;
 
-public record RoundRecord(Choice playerChoice, Choice opponentChoice, int playerPoints, int opponentPoints) {}
+public record RoundRecord(Choice playerChoice, Choice opponentChoice, int playerPoints, int opponentPoints) {
+
+    // One shared instance per outcome, indexed by PackedHistory bit code (bit 0 = player D, bit 1 = opponent D)
+    private static final RoundRecord[] OUTCOMES = {
+        new RoundRecord(Choice.C, Choice.C, 3, 3),
+        new RoundRecord(Choice.D, Choice.C, 5, 0),
+        new RoundRecord(Choice.C, Choice.D, 0, 5),
+        new RoundRecord(Choice.D, Choice.D, 1, 1)
+    };
+
+    /** Shared record for the given pair of moves, scored with the standard Axelrod payoff matrix. */
+    public static RoundRecord of(Choice playerChoice, Choice opponentChoice) {
+        return OUTCOMES[code(playerChoice, opponentChoice)];
+    }
+
+    /** Shared record for a 2-bit outcome code as stored in {@link PackedHistory}. */
+    public static RoundRecord ofCode(int code) {
+        return OUTCOMES[code];
+    }
+
+    /** 2-bit outcome code: bit 0 set when the player defected, bit 1 when the opponent did. */
+    public static int code(Choice playerChoice, Choice opponentChoice) {
+        return (playerChoice == Choice.D ? 1 : 0) | (opponentChoice == Choice.D ? 2 : 0);
+    }
+}
@@ -0,0 +1,170 @@
+package com.axelrod.game.plugin;
+
+import com.axelrod.game.algorithm.Algorithm;
+import com.axelrod.game.model.AlgorithmMeta;
+import com.axelrod.game.model.Choice;
+import com.axelrod.game.model.Dto.PluginStrategyStatus;
+import com.axelrod.game.model.PackedHistory;
+import com.axelrod.game.model.RoundRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs a contributed strategy's decide() under a StrategyBudget.
+ *
+ * Calls execute on the strategy's own small thread pool so a runaway
+ * decide() can be abandoned at the wall-clock timeout (and interrupted)
+ * without holding the caller. The strategy sees a read-only copy of the
+ * history, never the caller's live list. CPU time and allocation are
+ * measured on the executing thread and checked only after the call
+ * returns: a call is not stopped when it crosses the CPU or allocation
+ * budget, only at the wall-clock timeout. Any timeout, overrun or
+ * exception makes this round fall back to cooperation and counts as a
+ * violation; once maxViolations is reached the strategy is quarantined,
+ * removed from the registry and its threads are stopped.
+ */
+public class SandboxedAlgorithm implements Algorithm {
+
+    private static final Logger log = LoggerFactory.getLogger(SandboxedAlgorithm.class);
+    private static final Choice FALLBACK = Choice.C;
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+    private final Algorithm delegate;
+    private final String id;
+    private final AlgorithmMeta meta;
+    private final String source;
+    private final StrategyBudget budget;
+    private final ExecutorService executor;
+    private final Consumer<SandboxedAlgorithm> onQuarantine;
+    private final StrategyMetrics metrics = new StrategyMetrics();
+    private volatile boolean quarantined;
+
+    SandboxedAlgorithm(Algorithm delegate, String source, StrategyBudget budget, int threads,
+                       Consumer<SandboxedAlgorithm> onQuarantine) {
+        this.delegate = delegate;
+        this.id = delegate.getId();
+        this.meta = delegate.getMeta();
+        this.source = source;
+        this.budget = budget;
+        this.onQuarantine = onQuarantine;
+
+        AtomicInteger n = new AtomicInteger();
+        ClassLoader pluginLoader = delegate.getClass().getClassLoader();
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "strategy-" + id + "-" + n.incrementAndGet());
+            t.setDaemon(true);
+            t.setContextClassLoader(pluginLoader);
+            return t;
+        });
+    }
+
+    @Override public String getId()          { return id; }
+    @Override public AlgorithmMeta getMeta() { return meta; }
+
+    @Override
+    public Choice decide(List<RoundRecord> history) {
+        if (quarantined) return FALLBACK;
+
+        List<RoundRecord> snapshot = snapshot(history);
+        Future<Choice> call = executor.submit(() -> measured(snapshot));
+        try {
+            return call.get(budget.timeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            call.cancel(true);
+            metrics.timeouts.increment();
+        } catch (ExecutionException e) {
+            metrics.failures.increment();
+            log.debug("Strategy {} threw", id, e.getCause());
+        } catch (RejectedExecutionException e) {
+            return FALLBACK;   // unloaded while in use
+        } catch (InterruptedException e) {
+            call.cancel(true);
+            Thread.currentThread().interrupt();
+            return FALLBACK;
+        }
+        checkViolations();
+        return FALLBACK;
+    }
+
+    private Choice measured(List<RoundRecord> history) {
+        long tid = Thread.currentThread().threadId();
+        long cpu0 = THREADS.getCurrentThreadCpuTime();
+        long alloc0 = THREADS.getThreadAllocatedBytes(tid);
+
+        Choice choice = delegate.decide(history);
+
+        long cpu = THREADS.getCurrentThreadCpuTime() - cpu0;
+        long alloc = THREADS.getThreadAllocatedBytes(tid) - alloc0;
+        metrics.calls.increment();
+        metrics.cpuNanos.add(cpu);
+        metrics.allocatedBytes.add(alloc);
+
+        boolean over = false;
+        if (cpu > budget.cpu().toNanos())      { metrics.cpuViolations.increment(); over = true; }
+        if (alloc > budget.allocatedBytes())   { metrics.allocationViolations.increment(); over = true; }
+        if (over) {
+            checkViolations();
+            return FALLBACK;
+        }
+        return choice == null ? FALLBACK : choice;
+    }
+
+    /** Taken on the caller's thread, so an abandoned call never reads a list the caller keeps appending to. */
+    private static List<RoundRecord> snapshot(List<RoundRecord> history) {
+        return history instanceof PackedHistory packed
+            ? Collections.unmodifiableList(packed.copy())
+            : List.copyOf(history);
+    }
+
+    private void checkViolations() {
+        if (!quarantined && metrics.violations() >= budget.maxViolations()) {
+            synchronized (this) {
+                if (quarantined) return;
+                quarantined = true;
+            }
+            log.warn("Quarantining strategy {} from {} after {} budget violations", id, source, metrics.violations());
+            onQuarantine.accept(this);
+            shutdown();
+        }
+    }
+
+    /** Stop the strategy's threads; called on quarantine and when its jar is unloaded. */
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    boolean isShutdown() { return executor.isShutdown(); }
+
+    public boolean isQuarantined() { return quarantined; }
+
+    public PluginStrategyStatus status() {
+        long calls = metrics.calls.sum();
+        return new PluginStrategyStatus(
+            id,
+            meta.name(),
+            source,
+            quarantined,
+            calls,
+            calls == 0 ? 0 : metrics.cpuNanos.sum() / calls / 1_000,
+            calls == 0 ? 0 : metrics.allocatedBytes.sum() / calls,
+            metrics.timeouts.sum(),
+            metrics.cpuViolations.sum(),
+            metrics.allocationViolations.sum(),
+            metrics.failures.sum()
+        );
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        var bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (bean.isThreadCpuTimeSupported()) bean.setThreadCpuTimeEnabled(true);
+        if (bean.isThreadAllocatedMemorySupported()) bean.setThreadAllocatedMemoryEnabled(true);
+        return bean;
+    }
+}
@@ -0,0 +1,13 @@
+package com.axelrod.game.plugin;
+
+import java.time.Duration;
+
+/**
+ * Per-decide() limits for a contributed strategy.
+ *
+ * @param cpu            CPU time one decide() may use
+ * @param allocatedBytes heap one decide() may allocate
+ * @param timeout        wall-clock limit, after which the call is abandoned
+ * @param maxViolations  violations tolerated before the strategy is quarantined
+ */
+public record StrategyBudget(Duration cpu, long allocatedBytes, Duration timeout, int maxViolations) {}
@@ -0,0 +1,19 @@
+package com.axelrod.game.plugin;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** Call and budget-violation counters for one contributed strategy. */
+final class StrategyMetrics {
+
+    final LongAdder calls = new LongAdder();
+    final LongAdder cpuNanos = new LongAdder();
+    final LongAdder allocatedBytes = new LongAdder();
+    final LongAdder timeouts = new LongAdder();
+    final LongAdder cpuViolations = new LongAdder();
+    final LongAdder allocationViolations = new LongAdder();
+    final LongAdder failures = new LongAdder();
+
+    long violations() {
+        return timeouts.sum() + cpuViolations.sum() + allocationViolations.sum() + failures.sum();
+    }
+}
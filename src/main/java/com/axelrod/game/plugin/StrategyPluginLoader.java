@@ -0,0 +1,180 @@
+package com.axelrod.game.plugin;
+
+import com.axelrod.game.algorithm.Algorithm;
+import com.axelrod.game.algorithm.AlgorithmRegistry;
+import com.axelrod.game.model.Dto.PluginStrategyStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Discovers contributed strategies in game.strategies.dir and keeps the
+ * registry in sync with it, without a restart.
+ *
+ * A strategy jar lists its Algorithm implementations in
+ * META-INF/services/com.axelrod.game.algorithm.Algorithm. Each jar is
+ * copied aside and loaded in its own URLClassLoader, so it can be replaced
+ * or deleted while in use; every strategy in it is wrapped in a
+ * SandboxedAlgorithm. The directory is polled; a new or changed jar is
+ * (re)loaded, a deleted one is unregistered and its loader closed.
+ */
+@Component
+@ConditionalOnProperty(name = "game.strategies.dir")
+public class StrategyPluginLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(StrategyPluginLoader.class);
+
+    private final AlgorithmRegistry registry;
+    private final Path dir;
+    private final Duration pollInterval;
+    private final StrategyBudget budget;
+    private final int threadsPerStrategy;
+    private final Map<Path, LoadedJar> loaded = new HashMap<>();
+    private final ScheduledExecutorService poller;
+    private Path shadowDir;
+
+    private record LoadedJar(FileTime modified, long size, URLClassLoader loader, Path shadow,
+                             List<SandboxedAlgorithm> strategies) {}
+
+    public StrategyPluginLoader(AlgorithmRegistry registry,
+                                @Value("${game.strategies.dir}") String dir,
+                                @Value("${game.strategies.poll-interval}") Duration pollInterval,
+                                @Value("${game.strategies.threads-per-strategy}") int threadsPerStrategy,
+                                @Value("${game.strategies.budget.cpu}") Duration cpu,
+                                @Value("${game.strategies.budget.allocated-bytes}") long allocatedBytes,
+                                @Value("${game.strategies.budget.timeout}") Duration timeout,
+                                @Value("${game.strategies.budget.max-violations}") int maxViolations) {
+        this.registry = registry;
+        this.dir = Path.of(dir);
+        this.pollInterval = pollInterval;
+        this.threadsPerStrategy = threadsPerStrategy;
+        this.budget = new StrategyBudget(cpu, allocatedBytes, timeout, maxViolations);
+        this.poller = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "strategy-plugin-poller");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        Files.createDirectories(dir);
+        shadowDir = Files.createTempDirectory("pd-strategies");
+        rescan();
+        poller.scheduleWithFixedDelay(this::rescanQuietly,
+            pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        poller.shutdownNow();
+        for (Path jar : new ArrayList<>(loaded.keySet())) unload(jar);
+    }
+
+    /** Bring the registry in line with the jars currently in the directory. */
+    public synchronized void rescan() throws IOException {
+        Set<Path> present = new HashSet<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path jar : files.filter(p -> p.toString().endsWith(".jar")).toList()) {
+                present.add(jar);
+                LoadedJar current = loaded.get(jar);
+                FileTime modified = Files.getLastModifiedTime(jar);
+                long size = Files.size(jar);
+                if (current != null && current.modified().equals(modified) && current.size() == size) continue;
+
+                if (current != null) unload(jar);
+                try {
+                    load(jar, modified, size);
+                } catch (Exception | ServiceConfigurationError | LinkageError e) {
+                    log.warn("Could not load strategy jar {}", jar, e);
+                }
+            }
+        }
+        for (Path jar : new ArrayList<>(loaded.keySet())) {
+            if (!present.contains(jar)) unload(jar);
+        }
+    }
+
+    public synchronized List<PluginStrategyStatus> status() {
+        return loaded.values().stream()
+            .flatMap(j -> j.strategies().stream())
+            .map(SandboxedAlgorithm::status)
+            .toList();
+    }
+
+    // ─────────────────────────────────────────────────────────
+    // HELPERS
+    // ─────────────────────────────────────────────────────────
+
+    private void load(Path jar, FileTime modified, long size) throws IOException {
+        Path shadow = shadowDir.resolve(System.nanoTime() + "-" + jar.getFileName());
+        Files.copy(jar, shadow);
+        URLClassLoader loader = new URLClassLoader("strategy:" + jar.getFileName(),
+            new URL[] { shadow.toUri().toURL() }, Algorithm.class.getClassLoader());
+
+        List<SandboxedAlgorithm> strategies = new ArrayList<>();
+        try {
+            for (Algorithm a : ServiceLoader.load(Algorithm.class, loader)) {
+                if (a.getClass().getClassLoader() != loader) continue;   // visible through the parent, not ours
+                SandboxedAlgorithm sandboxed = new SandboxedAlgorithm(a, jar.getFileName().toString(),
+                    budget, threadsPerStrategy, registry::unregister);
+                try {
+                    registry.register(sandboxed);
+                    strategies.add(sandboxed);
+                } catch (IllegalArgumentException e) {
+                    sandboxed.shutdown();
+                    log.warn("Skipping strategy {} in {}: {}", a.getId(), jar, e.getMessage());
+                }
+            }
+        } catch (RuntimeException | ServiceConfigurationError | LinkageError e) {
+            strategies.forEach(s -> { registry.unregister(s); s.shutdown(); });
+            loader.close();
+            Files.deleteIfExists(shadow);
+            throw e;
+        }
+
+        loaded.put(jar, new LoadedJar(modified, size, loader, shadow, strategies));
+        log.info("Loaded {} strategies from {}: {}", strategies.size(), jar,
+            strategies.stream().map(SandboxedAlgorithm::getId).toList());
+    }
+
+    private void unload(Path jar) {
+        LoadedJar j = loaded.remove(jar);
+        if (j == null) return;
+        for (SandboxedAlgorithm s : j.strategies()) {
+            registry.unregister(s);
+            s.shutdown();
+        }
+        try {
+            j.loader().close();
+            Files.deleteIfExists(j.shadow());
+        } catch (IOException e) {
+            log.warn("Could not release strategy jar {}", jar, e);
+        }
+        log.info("Unloaded strategies from {}", jar);
+    }
+
+    private void rescanQuietly() {
+        try {
+            rescan();
+        } catch (Exception e) {
+            log.warn("Strategy directory scan failed", e);
+        }
+    }
+}
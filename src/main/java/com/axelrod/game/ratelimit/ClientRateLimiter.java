@@ -0,0 +1,72 @@
+package com.axelrod.game.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-client token buckets for one endpoint category.
+ *
+ * The client map is bounded: idle (full) buckets are swept out by the
+ * scheduled sweeper — harmless, since a full bucket equals a new one. When
+ * the map is at maxClients, unknown clients share a single overflow bucket
+ * instead of growing the map; at most one request per second also runs an
+ * early sweep, so a flood of new clients cannot turn every request into a
+ * full-map scan. The hit path for a known client is one map lookup plus
+ * one CAS.
+ */
+public class ClientRateLimiter {
+
+    private static final long MIN_INLINE_SWEEP_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private final String name;
+    private final long interval;
+    private final long tolerance;
+    private final int maxClients;
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final TokenBucket overflow = new TokenBucket(System.nanoTime());
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+
+    public ClientRateLimiter(String name, double perSecond, int burst, int maxClients) {
+        if (perSecond <= 0 || burst < 1) throw new IllegalArgumentException("Invalid rate limit for " + name);
+        this.name = name;
+        this.interval = (long) (1_000_000_000L / perSecond);
+        this.tolerance = (burst - 1) * interval;
+        this.maxClients = maxClients;
+    }
+
+    /** @return 0 if the request may proceed, otherwise nanos until the client may retry. */
+    public long tryAcquire(String client) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(client);
+        if (bucket == null) bucket = admit(client, now);
+        return bucket.tryAcquire(now, interval, tolerance);
+    }
+
+    /** Drop buckets that have fully refilled. */
+    public void sweep() {
+        if (!sweeping.compareAndSet(false, true)) return;
+        try {
+            long now = System.nanoTime();
+            lastSweep.set(now);
+            buckets.values().removeIf(b -> b.isIdle(now));
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    public String getName()   { return name; }
+    public int trackedClients() { return buckets.size(); }
+
+    private TokenBucket admit(String client, long now) {
+        if (buckets.size() >= maxClients) {
+            long last = lastSweep.get();
+            if (now - last < MIN_INLINE_SWEEP_INTERVAL || !lastSweep.compareAndSet(last, now)) return overflow;
+            sweep();
+            if (buckets.size() >= maxClients) return overflow;
+        }
+        return buckets.computeIfAbsent(client, k -> new TokenBucket(now));
+    }
+}
@@ -0,0 +1,69 @@
+package com.axelrod.game.ratelimit;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-client rate limits (game.ratelimit.*) on the endpoints that create
+ * work:
+ *   start      — POST /api/game/start
+ *   round      — POST /api/game/round
+ *   tournament — POST /api/match, POST /api/jobs, POST /api/strategies/plugins/reload
+ */
+@Configuration
+@ConditionalOnProperty(name = "game.ratelimit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final ClientRateLimiter start;
+    private final ClientRateLimiter round;
+    private final ClientRateLimiter tournament;
+    private final boolean trustForwardedFor;
+    private final ScheduledExecutorService sweeper;
+
+    public RateLimitConfig(@Value("${game.ratelimit.max-clients}") int maxClients,
+                           @Value("${game.ratelimit.trust-forwarded-for}") boolean trustForwardedFor,
+                           @Value("${game.ratelimit.sweep-interval}") Duration sweepInterval,
+                           @Value("${game.ratelimit.start.per-second}") double startRate,
+                           @Value("${game.ratelimit.start.burst}") int startBurst,
+                           @Value("${game.ratelimit.round.per-second}") double roundRate,
+                           @Value("${game.ratelimit.round.burst}") int roundBurst,
+                           @Value("${game.ratelimit.tournament.per-second}") double tournamentRate,
+                           @Value("${game.ratelimit.tournament.burst}") int tournamentBurst) {
+        this.start = new ClientRateLimiter("start", startRate, startBurst, maxClients);
+        this.round = new ClientRateLimiter("round", roundRate, roundBurst, maxClients);
+        this.tournament = new ClientRateLimiter("tournament", tournamentRate, tournamentBurst, maxClients);
+        this.trustForwardedFor = trustForwardedFor;
+
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "ratelimit-sweeper");
+            t.setDaemon(true);
+            return t;
+        });
+        long every = sweepInterval.toMillis();
+        sweeper.scheduleWithFixedDelay(() -> List.of(start, round, tournament).forEach(ClientRateLimiter::sweep),
+            every, every, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RateLimitInterceptor(start, trustForwardedFor)).addPathPatterns("/api/game/start");
+        registry.addInterceptor(new RateLimitInterceptor(round, trustForwardedFor)).addPathPatterns("/api/game/round");
+        registry.addInterceptor(new RateLimitInterceptor(tournament, trustForwardedFor)).addPathPatterns("/api/match", "/api/jobs",
+            "/api/strategies/plugins/reload");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+}
@@ -0,0 +1,49 @@
+package com.axelrod.game.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rejects requests over the client's budget with 429 + Retry-After.
+ * Only POSTs are limited; one interceptor instance per endpoint category.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final ClientRateLimiter limiter;
+    private final boolean trustForwardedFor;
+
+    public RateLimitInterceptor(ClientRateLimiter limiter, boolean trustForwardedFor) {
+        this.limiter = limiter;
+        this.trustForwardedFor = trustForwardedFor;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!"POST".equals(request.getMethod())) return true;
+
+        long wait = limiter.tryAcquire(clientKey(request));
+        if (wait == 0) return true;
+
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + 999_999_999));
+        response.setStatus(429);
+        response.setHeader("Retry-After", String.valueOf(retryAfter));
+        response.setContentType("application/json");
+        response.getWriter().write("{\"error\":\"Too many " + limiter.getName() + " requests. Retry in " + retryAfter + "s.\"}");
+        return false;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwarded = request.getHeader("X-Forwarded-For");
+            if (forwarded != null && !forwarded.isBlank()) {
+                int comma = forwarded.indexOf(',');
+                return (comma < 0 ? forwarded : forwarded.substring(0, comma)).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
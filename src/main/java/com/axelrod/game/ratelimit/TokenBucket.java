@@ -0,0 +1,53 @@
+package com.axelrod.game.ratelimit;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Lock-free token bucket for one client.
+ *
+ * Stored in its GCRA form: the single field is the "theoretical arrival
+ * time" at which the bucket would be full again, so a request is one
+ * read + one CAS on a long with no refill arithmetic. A bucket whose TAT
+ * is in the past is full and indistinguishable from a new one, which is
+ * what lets ClientRateLimiter evict idle clients without losing state.
+ */
+final class TokenBucket {
+
+    private static final VarHandle TAT;
+    static {
+        try {
+            TAT = MethodHandles.lookup().findVarHandle(TokenBucket.class, "tat", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @SuppressWarnings("unused")   // accessed through TAT
+    private volatile long tat;
+
+    TokenBucket(long now) {
+        this.tat = now;
+    }
+
+    /**
+     * Take one token.
+     * @param interval  nanos per token (1 / rate)
+     * @param tolerance nanos of burst credit ((burst - 1) × interval)
+     * @return 0 if allowed, otherwise nanos until a token is available
+     */
+    long tryAcquire(long now, long interval, long tolerance) {
+        for (;;) {
+            long t = (long) TAT.getVolatile(this);
+            long start = Math.max(t, now);
+            long wait = start - now - tolerance;
+            if (wait > 0) return wait;
+            if (TAT.compareAndSet(this, t, start + interval)) return 0;
+        }
+    }
+
+    /** True if the bucket has fully refilled. */
+    boolean isIdle(long now) {
+        return (long) TAT.getVolatile(this) - now <= 0;
+    }
+}
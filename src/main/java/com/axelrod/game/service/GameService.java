@@ -2,16 +2,19 @@ package com.axelrod.game.service;
 
 import com.axelrod.game.algorithm.Algorithm;
 import com.axelrod.game.algorithm.AlgorithmRegistry;
+import com.axelrod.game.analytics.MatchStore;
 import com.axelrod.game.model.*;
 import com.axelrod.game.model.Dto.*;
+import com.axelrod.game.service.MatchEngine.MatchResult;
+import com.axelrod.game.session.SessionRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages all active game sessions and drives round resolution.
- * Sessions are stored in-memory (ConcurrentHashMap).
+ * Sessions are kept in the configured SessionRepository (see SessionStoreConfig).
  *
  * Payoff table (standard Axelrod values):
  *   Both Cooperate (CC) → 3, 3
@@ -24,8 +27,12 @@ public class GameService {
 
     private final AlgorithmRegistry registry;
 
-    // In-memory session store  —  sessionId → session
-    private final Map<String, GameSession> sessions = new ConcurrentHashMap<>();
+    private final SessionRepository sessions;
+    private final MatchStore matches;
+    private final MatchEngine engine;
+    private final int maxMatchRounds;
+    private final int maxMatchHistoryRounds;
+    private final int maxContributedRounds;
 
     // Historical Axelrod scores for leaderboard (from the 1980 tournament)
     private static final Map<String, Integer> HISTORICAL_SCORES = Map.of(
@@ -38,8 +45,17 @@ public class GameService {
         "prober",            391
     );
 
-    public GameService(AlgorithmRegistry registry) {
+    public GameService(AlgorithmRegistry registry, SessionRepository sessions, MatchStore matches, MatchEngine engine,
+                       @Value("${game.match.max-rounds}") int maxMatchRounds,
+                       @Value("${game.match.max-history-rounds}") int maxMatchHistoryRounds,
+                       @Value("${game.match.max-contributed-rounds}") int maxContributedRounds) {
         this.registry = registry;
+        this.sessions = sessions;
+        this.matches = matches;
+        this.engine = engine;
+        this.maxMatchRounds = maxMatchRounds;
+        this.maxMatchHistoryRounds = maxMatchHistoryRounds;
+        this.maxContributedRounds = maxContributedRounds;
     }
 
     // ─────────────────────────────────────────────────────────
@@ -61,7 +77,7 @@ public class GameService {
         }
 
         GameSession session = new GameSession(algo.getId(), rounds, randomMode);
-        sessions.put(session.getSessionId(), session);
+        sessions.save(session);
 
         // If random mode, hide algorithm name from response
         String displayName = randomMode ? "UNKNOWN OPPONENT" : algo.getMeta().name();
@@ -79,40 +95,39 @@ public class GameService {
     // PLAY ROUND
     // ─────────────────────────────────────────────────────────
     public RoundResultResponse playRound(PlayRoundRequest req) {
-        GameSession session = getSession(req.sessionId());
-
-        if (!session.canPlay()) {
-            throw new IllegalStateException("Game is already finished.");
-        }
-
-        Algorithm algo = registry.find(session.getAlgorithmId())
-            .orElseThrow(() -> new IllegalStateException("Algorithm not found for session."));
-
-        Choice playerChoice   = req.playerChoice();
-        Choice opponentChoice = algo.decide(session.getHistory());
-
-        int[] payoff = calculatePayoff(playerChoice, opponentChoice);
-        int playerPts   = payoff[0];
-        int opponentPts = payoff[1];
-
-        RoundRecord record = new RoundRecord(playerChoice, opponentChoice, playerPts, opponentPts);
-        session.addRound(record);
-
-        String outcome = playerChoice.name() + opponentChoice.name(); // CC / CD / DC / DD
-
-        return new RoundResultResponse(
-            session.getSessionId(),
-            session.getCurrentRound(),
-            session.getTotalRounds(),
-            playerChoice,
-            opponentChoice,
-            playerPts,
-            opponentPts,
-            session.getPlayerScore(),
-            session.getOpponentScore(),
-            outcome,
-            session.isFinished()
-        );
+        // One atomic read-modify-write per round, whatever the store
+        return sessions.update(req.sessionId(), session -> {
+            if (!session.canPlay()) {
+                throw new IllegalStateException("Game is already finished.");
+            }
+
+            Algorithm algo = registry.find(session.getAlgorithmId())
+                .orElseThrow(() -> new IllegalStateException("Algorithm not found for session."));
+
+            Choice playerChoice   = req.playerChoice();
+            // The session records the human as player; the algorithm decides from its own seat
+            Choice opponentChoice = algo.decide(session.getHistory().mirrored());
+
+            RoundRecord record = RoundRecord.of(playerChoice, opponentChoice);
+            session.addRound(record);
+            if (session.isFinished()) matches.record(session);
+
+            String outcome = playerChoice.name() + opponentChoice.name(); // CC / CD / DC / DD
+
+            return new RoundResultResponse(
+                session.getSessionId(),
+                session.getCurrentRound(),
+                session.getTotalRounds(),
+                playerChoice,
+                opponentChoice,
+                record.playerPoints(),
+                record.opponentPoints(),
+                session.getPlayerScore(),
+                session.getOpponentScore(),
+                outcome,
+                session.isFinished()
+            );
+        });
     }
 
     // ─────────────────────────────────────────────────────────
@@ -159,16 +174,67 @@ public class GameService {
         );
     }
 
+    // ─────────────────────────────────────────────────────────
+    // BOT MATCH (no session; strategy vs strategy or vs a fixed script)
+    // ─────────────────────────────────────────────────────────
+    public MatchResponse playMatch(MatchRequest req) {
+        if (req.rounds() < 1 || req.rounds() > maxMatchRounds) {
+            throw new IllegalArgumentException("rounds must be between 1 and " + maxMatchRounds);
+        }
+        if (req.includeHistory() && req.rounds() > maxMatchHistoryRounds) {
+            throw new IllegalArgumentException("includeHistory is limited to " + maxMatchHistoryRounds + " rounds");
+        }
+        if ((req.strategyB() == null) == (req.moves() == null)) {
+            throw new IllegalArgumentException("Give exactly one of strategyB or moves.");
+        }
+
+        Algorithm a = registry.find(req.strategyA())
+            .orElseThrow(() -> new IllegalArgumentException("Unknown algorithm: " + req.strategyA()));
+        Algorithm b = req.strategyB() != null
+            ? registry.find(req.strategyB()).orElseThrow(() -> new IllegalArgumentException("Unknown algorithm: " + req.strategyB()))
+            : MatchEngine.fixedSequence(parseMoves(req.moves()));
+
+        // Contributed strategies run every decide() through their sandbox executor
+        if (req.rounds() > maxContributedRounds
+                && (!registry.isBuiltIn(a.getId()) || (req.strategyB() != null && !registry.isBuiltIn(b.getId())))) {
+            throw new IllegalArgumentException("Matches with a contributed strategy are limited to " + maxContributedRounds + " rounds");
+        }
+
+        MatchResult r = engine.play(a, b, req.rounds());
+        String result = r.scoreA() > r.scoreB() ? "WIN" : (r.scoreB() > r.scoreA() ? "LOSE" : "DRAW");
+
+        List<RoundHistoryEntry> history = null;
+        if (req.includeHistory()) {
+            history = new ArrayList<>(r.rounds());
+            for (int i = 0; i < r.rounds(); i++) {
+                RoundRecord rec = r.history().get(i);
+                history.add(new RoundHistoryEntry(i + 1, rec.playerChoice(), rec.opponentChoice(), rec.playerPoints(), rec.opponentPoints()));
+            }
+        }
+
+        return new MatchResponse(
+            a.getId(),
+            b.getId(),
+            r.rounds(),
+            r.scoreA(), r.scoreB(),
+            result,
+            r.cc(), r.dd(), r.cd(), r.dc(),
+            history
+        );
+    }
+
     // ─────────────────────────────────────────────────────────
     // HELPERS
     // ─────────────────────────────────────────────────────────
 
-    /** Standard Axelrod payoff matrix. */
-    private int[] calculatePayoff(Choice p1, Choice p2) {
-        if (p1 == Choice.C && p2 == Choice.C) return new int[]{3, 3};
-        if (p1 == Choice.C && p2 == Choice.D) return new int[]{0, 5};
-        if (p1 == Choice.D && p2 == Choice.C) return new int[]{5, 0};
-        return new int[]{1, 1}; // DD
+    private static List<Choice> parseMoves(String moves) {
+        List<Choice> parsed = new ArrayList<>(moves.length());
+        for (char c : moves.trim().toUpperCase().toCharArray()) {
+            if (c == 'C') parsed.add(Choice.C);
+            else if (c == 'D') parsed.add(Choice.D);
+            else if (c != ',' && c != ' ') throw new IllegalArgumentException("Invalid move '" + c + "' (use C or D)");
+        }
+        return parsed;
     }
 
     private List<LeaderboardEntry> buildLeaderboard(int playerScore) {
@@ -205,13 +271,11 @@ public class GameService {
     }
 
     private GameSession getSession(String id) {
-        GameSession s = sessions.get(id);
-        if (s == null) throw new NoSuchElementException("Session not found: " + id);
-        return s;
+        return sessions.findById(id).orElseThrow(() -> SessionRepository.notFound(id));
     }
 
     /** Cleanup — remove finished sessions older than current set (basic GC). */
     public void cleanupSession(String sessionId) {
-        sessions.remove(sessionId);
+        sessions.deleteById(sessionId);
     }
 }
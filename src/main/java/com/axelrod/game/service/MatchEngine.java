@@ -0,0 +1,88 @@
+package com.axelrod.game.service;
+
+import com.axelrod.game.algorithm.Algorithm;
+import com.axelrod.game.model.AlgorithmMeta;
+import com.axelrod.game.model.Choice;
+import com.axelrod.game.model.PackedHistory;
+import com.axelrod.game.model.RoundRecord;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Plays two algorithms against each other entirely server-side.
+ *
+ * Each side gets its own history, seen from its own seat: its moves are the
+ * playerChoice column, the other side's moves are opponentChoice (the
+ * orientation {@link Algorithm#decide} expects).
+ *
+ * The round loop allocates nothing: both histories are pre-sized
+ * PackedHistory lists and RoundRecords are the shared per-outcome instances.
+ */
+@Service
+public class MatchEngine {
+
+    /** How often (in rounds) the checkpoint callback runs. */
+    public static final int CHECKPOINT_INTERVAL = 1024;
+
+    private static final Runnable NO_CHECKPOINT = () -> {};
+
+    /**
+     * Totals from A's point of view; cd = A cooperated while B defected.
+     * @param history every round with playerChoice = A, opponentChoice = B.
+     */
+    public record MatchResult(int rounds, long scoreA, long scoreB, int cc, int cd, int dc, int dd,
+                              PackedHistory history) {}
+
+    public MatchResult play(Algorithm a, Algorithm b, int rounds) {
+        return play(a, b, rounds, NO_CHECKPOINT);
+    }
+
+    /**
+     * @param checkpoint run every CHECKPOINT_INTERVAL rounds; may throw to abort the match
+     *                   (e.g. a job's cooperative cancellation check).
+     */
+    public MatchResult play(Algorithm a, Algorithm b, int rounds, Runnable checkpoint) {
+        PackedHistory seenByA = new PackedHistory(rounds);
+        PackedHistory seenByB = new PackedHistory(rounds);
+        long scoreA = 0, scoreB = 0;
+        int[] outcomes = new int[4];
+
+        for (int i = 0; i < rounds; i++) {
+            if (i % CHECKPOINT_INTERVAL == 0) checkpoint.run();
+
+            Choice moveA = a.decide(seenByA);
+            Choice moveB = b.decide(seenByB);
+            seenByA.append(moveA, moveB);
+            seenByB.append(moveB, moveA);
+
+            RoundRecord r = RoundRecord.of(moveA, moveB);
+            scoreA += r.playerPoints();
+            scoreB += r.opponentPoints();
+            outcomes[RoundRecord.code(moveA, moveB)]++;
+        }
+        // Outcome codes: bit 0 = A defected, bit 1 = B defected
+        return new MatchResult(rounds, scoreA, scoreB, outcomes[0], outcomes[2], outcomes[1], outcomes[3], seenByA);
+    }
+
+    /**
+     * A pseudo-algorithm that replays a fixed move sequence, cycling when it
+     * runs out — lets a scripted player face any registry strategy.
+     */
+    public static Algorithm fixedSequence(List<Choice> moves) {
+        Choice[] script = moves.toArray(new Choice[0]);
+        if (script.length == 0) throw new IllegalArgumentException("Move sequence is empty.");
+        AlgorithmMeta meta = new AlgorithmMeta("fixed_sequence", "FIXED SEQUENCE",
+            "Replays a submitted move sequence.", "mixed", "SCRIPTED", null, null);
+
+        return new Algorithm() {
+            @Override public String getId()          { return meta.id(); }
+            @Override public AlgorithmMeta getMeta() { return meta; }
+
+            @Override
+            public Choice decide(List<RoundRecord> history) {
+                return script[history.size() % script.length];
+            }
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package com.axelrod.game.session;
+
+import com.axelrod.game.model.GameSession;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Default single-node store — sessions live on-heap in a ConcurrentHashMap.
+ *
+ * update() mutates a copy and swaps it in only if the mutation returns, so
+ * a failed update leaves the stored session untouched and a session handed
+ * out by findById() is never changed afterwards.
+ */
+public class InMemorySessionRepository implements SessionRepository {
+
+    // sessionId → session
+    private final Map<String, GameSession> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(GameSession session) {
+        sessions.put(session.getSessionId(), session);
+    }
+
+    @Override
+    public Optional<GameSession> findById(String sessionId) {
+        return Optional.ofNullable(sessions.get(sessionId));
+    }
+
+    @Override
+    public <T> T update(String sessionId, Function<GameSession, T> mutation) {
+        while (true) {
+            GameSession current = sessions.get(sessionId);
+            if (current == null) throw SessionRepository.notFound(sessionId);
+            synchronized (current) {
+                if (sessions.get(sessionId) != current) continue;   // replaced while we waited
+                GameSession working = current.copy();
+                T result = mutation.apply(working);
+                sessions.replace(sessionId, current, working);      // no-op if deleted meanwhile
+                return result;
+            }
+        }
+    }
+
+    @Override
+    public void deleteById(String sessionId) {
+        sessions.remove(sessionId);
+    }
+}
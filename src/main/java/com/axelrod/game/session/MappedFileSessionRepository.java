@@ -0,0 +1,349 @@
+package com.axelrod.game.session;
+
+import com.axelrod.game.model.GameSession;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Shared session store backed by a memory-mapped file.
+ *
+ * Every node that maps the same file (same host, or a shared volume with
+ * coherent mmap) sees the same sessions, so requests for one game can land
+ * on any node without sticky sessions.
+ *
+ * The file is a fixed open-addressing hash table keyed by session UUID:
+ *
+ *   [64-byte header: magic, version, slot count, slot size]
+ *   [slot 0][slot 1] ... [slot n-1]
+ *
+ *   slot = int state (EMPTY / USED / DELETED), int length,
+ *          long last-touched epoch millis, SessionCodec bytes
+ *
+ * Each slot access takes an in-process stripe lock plus an OS file lock on
+ * the slot's byte range, so one round is a single locked read-modify-write
+ * of ~100 bytes. Capacity is fixed at creation.
+ *
+ * Deleted slots become tombstones. A tombstone whose successor is EMPTY is
+ * turned back into EMPTY (walking backwards through any tombstones before
+ * it), so probe chains shrink again as games are deleted. An insert that
+ * probed past a slot which was reclaimed before the insert landed would be
+ * unreachable, so inserts that leave their home slot re-check that the
+ * session can be found and retry otherwise. Sessions untouched for longer
+ * than the TTL are deleted by a background sweep, started by start() —
+ * the file outlives the process, so abandoned games would otherwise fill
+ * it for good.
+ *
+ * The FileLocks below are only held for their scope, hence
+ * {@code @SuppressWarnings("try")} on the methods that take them.
+ */
+public class MappedFileSessionRepository implements SessionRepository, Closeable {
+
+    private static final int MAGIC = 0x50445353;   // "PDSS"
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_BYTES = 64;
+    private static final int SLOT_HEADER_BYTES = 16;
+    private static final int LOCK_STRIPES = 64;
+
+    private static final int EMPTY = 0;
+    private static final int USED = 1;
+    private static final int DELETED = 2;
+
+    // onSession() outcomes besides the action's own result
+    private static final Object MISS = new Object();     // slot holds another session — keep probing
+    private static final Object ABSENT = new Object();   // reached an empty slot — id is not stored
+
+    private final FileChannel channel;
+    private final MappedByteBuffer map;
+    private final int slots;
+    private final int slotSize;
+    private final ReentrantLock[] stripes = new ReentrantLock[LOCK_STRIPES];
+    private final long ttlMillis;
+    private final ScheduledExecutorService sweeper;
+
+    @SuppressWarnings("try")
+    public MappedFileSessionRepository(Path file, int slots, int slotSize, Duration ttl) throws IOException {
+        long bytes = HEADER_BYTES + (long) slots * slotSize;
+        if (slots <= 0 || slotSize <= SLOT_HEADER_BYTES || bytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid session store geometry: " + slots + " x " + slotSize);
+        }
+        if (ttl.isNegative() || ttl.isZero()) throw new IllegalArgumentException("Session TTL must be positive: " + ttl);
+        this.slots = slots;
+        this.slotSize = slotSize;
+        this.ttlMillis = ttl.toMillis();
+        for (int i = 0; i < LOCK_STRIPES; i++) stripes[i] = new ReentrantLock();
+
+        this.channel = FileChannel.open(file, CREATE, READ, WRITE);
+        try (FileLock ignored = channel.lock(0, HEADER_BYTES, false)) {
+            this.map = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+            if (map.getInt(0) == 0) {
+                map.putInt(4, FORMAT_VERSION);
+                map.putInt(8, slots);
+                map.putInt(12, slotSize);
+                map.putInt(0, MAGIC);
+            } else if (map.getInt(0) != MAGIC || map.getInt(4) != FORMAT_VERSION
+                    || map.getInt(8) != slots || map.getInt(12) != slotSize) {
+                throw new IllegalStateException("Session store " + file + " was created with a different layout");
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "mapped-session-sweeper");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** Start the idle-session sweep (every TTL, at most every minute); called once the store is constructed. */
+    public void start() {
+        long sweepMillis = Math.min(ttlMillis, TimeUnit.MINUTES.toMillis(1));
+        sweeper.scheduleWithFixedDelay(() -> expireIdle(System.currentTimeMillis()),
+            sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Session ids are fresh random UUIDs, so save() inserts without first
+     * probing for an existing copy of the session.
+     */
+    @Override
+    public void save(GameSession session) {
+        UUID id = UUID.fromString(session.getSessionId());
+        byte[] bytes = encode(session);
+        int home = home(id);
+
+        while (true) {
+            int slot = claim(home, bytes);
+            if (slot == home || onSession(id, off -> Boolean.TRUE) != ABSENT) return;
+            // A slot we probed past was reclaimed before we landed: retry from home
+            release(slot);
+        }
+    }
+
+    @Override
+    public Optional<GameSession> findById(String sessionId) {
+        UUID id = parse(sessionId);
+        if (id == null) return Optional.empty();
+        Object found = onSession(id, this::decodeAt);
+        return found == ABSENT ? Optional.empty() : Optional.of((GameSession) found);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T update(String sessionId, Function<GameSession, T> mutation) {
+        UUID id = parse(sessionId);
+        if (id == null) throw SessionRepository.notFound(sessionId);
+
+        Object result = onSession(id, off -> {
+            GameSession session = decodeAt(off);
+            T value = mutation.apply(session);
+            write(off, encode(session));
+            return value;
+        });
+        if (result == ABSENT) throw SessionRepository.notFound(sessionId);
+        return (T) result;
+    }
+
+    @Override
+    public void deleteById(String sessionId) {
+        UUID id = parse(sessionId);
+        if (id == null) return;
+        int home = home(id);
+        for (int i = 0; i < slots; i++) {
+            int slot = (home + i) % slots;
+            Object r = withSlot(slot, off -> {
+                int state = map.getInt(off);
+                if (state == EMPTY) return ABSENT;
+                if (state == USED && SessionCodec.peekId(map, off + SLOT_HEADER_BYTES).equals(id)) {
+                    map.putInt(off, DELETED);
+                    return Boolean.TRUE;
+                }
+                return MISS;
+            });
+            if (r == ABSENT) return;
+            if (r != MISS) {
+                reclaim(slot);
+                return;
+            }
+        }
+    }
+
+    /** Delete sessions not touched since nowMillis - TTL; returns how many were removed. */
+    int expireIdle(long nowMillis) {
+        long cutoff = nowMillis - ttlMillis;
+        int expired = 0;
+        for (int slot = 0; slot < slots; slot++) {
+            boolean removed = withSlot(slot, off -> {
+                if (map.getInt(off) != USED || map.getLong(off + 8) >= cutoff) return false;
+                map.putInt(off, DELETED);
+                return true;
+            });
+            if (removed) {
+                reclaim(slot);
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    @Override
+    public void close() throws IOException {
+        sweeper.shutdownNow();
+        channel.close();
+    }
+
+    // ─────────────────────────────────────────────────────────
+    // HELPERS
+    // ─────────────────────────────────────────────────────────
+
+    /** Probe for the session and run the action on its slot under lock; ABSENT if not stored. */
+    private Object onSession(UUID id, IntFunction<Object> action) {
+        int home = home(id);
+        for (int i = 0; i < slots; i++) {
+            Object r = withSlot((home + i) % slots, off -> {
+                int state = map.getInt(off);
+                if (state == EMPTY) return ABSENT;
+                if (state == USED && SessionCodec.peekId(map, off + SLOT_HEADER_BYTES).equals(id)) {
+                    return action.apply(off);
+                }
+                return MISS;
+            });
+            if (r != MISS) return r;
+        }
+        return ABSENT;
+    }
+
+    /** Write into the first non-USED slot of the probe chain and return its index. */
+    private int claim(int home, byte[] bytes) {
+        for (int i = 0; i < slots; i++) {
+            int slot = (home + i) % slots;
+            boolean claimed = withSlot(slot, off -> {
+                if (map.getInt(off) == USED) return false;
+                write(off, bytes);
+                return true;
+            });
+            if (claimed) return slot;
+        }
+        throw new IllegalStateException("Session store is full (" + slots + " slots)");
+    }
+
+    private void release(int slot) {
+        withSlot(slot, off -> { map.putInt(off, DELETED); return null; });
+        reclaim(slot);
+    }
+
+    /**
+     * Turn the tombstone at slot back into EMPTY if its successor is EMPTY,
+     * then repeat for the tombstones before it. Each step holds both slots,
+     * so an insert cannot land in the successor between the check and the
+     * write.
+     */
+    private void reclaim(int slot) {
+        for (int n = 0, s = slot; n < slots; n++, s = (s - 1 + slots) % slots) {
+            boolean single = slots == 1;
+            boolean cleared = withSlots(s, (s + 1) % slots, (off, nextOff) -> {
+                if (map.getInt(off) != DELETED) return false;
+                if (!single && map.getInt(nextOff) != EMPTY) return false;
+                map.putInt(off, EMPTY);
+                return true;
+            });
+            if (!cleared) return;
+        }
+    }
+
+    @SuppressWarnings("try")
+    private <T> T withSlot(int slot, IntFunction<T> action) {
+        int off = HEADER_BYTES + slot * slotSize;
+        ReentrantLock stripe = stripes[slot % LOCK_STRIPES];
+        stripe.lock();
+        try (FileLock ignored = channel.lock(off, slotSize, false)) {
+            return action.apply(off);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    /**
+     * Lock two slots: stripes in stripe order, file ranges in offset order,
+     * so pairwise holders cannot deadlock each other or single-slot holders.
+     */
+    @SuppressWarnings("try")
+    private <T> T withSlots(int a, int b, SlotPairAction<T> action) {
+        if (a == b) return withSlot(a, off -> action.apply(off, off));
+        int offA = HEADER_BYTES + a * slotSize;
+        int offB = HEADER_BYTES + b * slotSize;
+        ReentrantLock first = stripes[Math.min(a % LOCK_STRIPES, b % LOCK_STRIPES)];
+        ReentrantLock second = stripes[Math.max(a % LOCK_STRIPES, b % LOCK_STRIPES)];
+        first.lock();
+        second.lock();
+        try (FileLock ignored1 = channel.lock(Math.min(offA, offB), slotSize, false);
+             FileLock ignored2 = channel.lock(Math.max(offA, offB), slotSize, false)) {
+            return action.apply(offA, offB);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            second.unlock();
+            first.unlock();
+        }
+    }
+
+    @FunctionalInterface
+    private interface SlotPairAction<T> {
+        T apply(int offA, int offB);
+    }
+
+    private byte[] encode(GameSession session) {
+        byte[] bytes = SessionCodec.encode(session);
+        if (bytes.length > slotSize - SLOT_HEADER_BYTES) {
+            throw new IllegalStateException("Session does not fit a " + slotSize + "-byte slot: " + bytes.length + " bytes");
+        }
+        return bytes;
+    }
+
+    private void write(int off, byte[] bytes) {
+        map.put(off + SLOT_HEADER_BYTES, bytes);
+        map.putInt(off + 4, bytes.length);
+        map.putLong(off + 8, System.currentTimeMillis());
+        map.putInt(off, USED);
+    }
+
+    private GameSession decodeAt(int off) {
+        int length = map.getInt(off + 4);
+        return SessionCodec.decode(map.slice(off + SLOT_HEADER_BYTES, length));
+    }
+
+    private int home(UUID id) {
+        long h = id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+        return (int) Math.floorMod(h ^ (h >>> 32), (long) slots);
+    }
+
+    private static UUID parse(String sessionId) {
+        try {
+            return sessionId == null ? null : UUID.fromString(sessionId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.axelrod.game.session;
+
+import com.axelrod.game.model.GameSession;
+import com.axelrod.game.model.PackedHistory;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Single-node session store that keeps every session outside the Java heap.
+ *
+ * Each session is a fixed 152-byte slot in a direct buffer:
+ *
+ *   0   long   session UUID msb
+ *   8   long   session UUID lsb
+ *   16  short  rounds played
+ *   18  short  total rounds
+ *   20  byte   algorithm index (into this store's algorithm id table)
+ *   21  byte   flags (bit 0 = random mode)
+ *   24  long×16 PackedHistory words (up to 512 rounds)
+ *
+ * Scores are not stored; GameSession recomputes them from the history.
+ *
+ * Slots live in 64K-slot chunks allocated on demand. The UUID → slot index
+ * is an open-addressing table in another direct buffer, and freed slots go
+ * on an int free list. The heap cost is a handful of buffers and arrays
+ * whatever the session count, so idle sessions add nothing for the GC to
+ * trace. GameSession objects only exist for the duration of a call.
+ */
+public class OffHeapSessionRepository implements SessionRepository {
+
+    static final int SLOT_BYTES = 152;
+    static final int MAX_ROUNDS = 16 * PackedHistory.ROUNDS_PER_WORD;
+
+    private static final int CHUNK_SLOTS = 1 << 16;
+    private static final int LOCK_STRIPES = 256;
+
+    // Slot field offsets
+    private static final int ID_MSB = 0;
+    private static final int ID_LSB = 8;
+    private static final int PLAYED = 16;
+    private static final int TOTAL_ROUNDS = 18;
+    private static final int ALGORITHM = 20;
+    private static final int FLAGS = 21;
+    private static final int MOVES = 24;
+
+    // Index entry: long msb, long lsb, int slot+1 (0 = empty, -1 = deleted), int padding
+    private static final int ENTRY_BYTES = 24;
+    private static final int ENTRY_EMPTY = 0;
+    private static final int ENTRY_DELETED = -1;
+
+    private final int capacity;
+    private final ByteBuffer[] chunks;
+    private ByteBuffer index;
+    private final int indexMask;
+    private int tombstones;
+
+    private final int[] freeSlots;
+    private int freeCount;
+    private int nextUnused;
+    private int size;
+
+    private final List<String> algorithmIds = new ArrayList<>();
+
+    // Index structure and slot allocation; slot contents are guarded by the stripes
+    private final ReadWriteLock indexLock = new ReentrantReadWriteLock();
+    private final ReentrantLock[] stripes = new ReentrantLock[LOCK_STRIPES];
+
+    public OffHeapSessionRepository(int capacity) {
+        // Next power of two ≥ 2 × capacity, so the load factor stays ≤ 0.5
+        long entries = capacity <= 0 ? 0 : 1L << (64 - Long.numberOfLeadingZeros(2L * capacity - 1));
+        if (capacity <= 0 || entries * ENTRY_BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid off-heap session capacity: " + capacity);
+        }
+        this.capacity = capacity;
+        this.chunks = new ByteBuffer[(capacity + CHUNK_SLOTS - 1) / CHUNK_SLOTS];
+        this.index = ByteBuffer.allocateDirect((int) entries * ENTRY_BYTES);
+        this.indexMask = (int) entries - 1;
+        this.freeSlots = new int[capacity];
+        for (int i = 0; i < LOCK_STRIPES; i++) stripes[i] = new ReentrantLock();
+    }
+
+    @Override
+    public void save(GameSession session) {
+        if (session.getTotalRounds() > MAX_ROUNDS) {
+            throw new IllegalArgumentException("Off-heap sessions hold at most " + MAX_ROUNDS + " rounds");
+        }
+        UUID id = UUID.fromString(session.getSessionId());
+        int algorithm = algorithmIndex(session.getAlgorithmId());
+
+        int slot;
+        indexLock.writeLock().lock();
+        try {
+            int entry = findEntry(id);
+            if (entry >= 0) {
+                slot = index.getInt(entry + 16) - 1;
+            } else {
+                slot = allocateSlot();
+                insertEntry(id, slot);
+            }
+            // Written under the index lock so no reader can see the entry before its slot
+            ReentrantLock stripe = stripe(slot);
+            stripe.lock();
+            try {
+                write(slot, id, algorithm, session);
+            } finally {
+                stripe.unlock();
+            }
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<GameSession> findById(String sessionId) {
+        UUID id = parse(sessionId);
+        int slot = id == null ? -1 : lookup(id);
+        if (slot < 0) return Optional.empty();
+
+        ReentrantLock stripe = stripe(slot);
+        stripe.lock();
+        try {
+            return holds(slot, id) ? Optional.of(read(slot, sessionId)) : Optional.empty();
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override
+    public <T> T update(String sessionId, Function<GameSession, T> mutation) {
+        UUID id = parse(sessionId);
+        int slot = id == null ? -1 : lookup(id);
+        if (slot < 0) throw SessionRepository.notFound(sessionId);
+
+        ReentrantLock stripe = stripe(slot);
+        stripe.lock();
+        try {
+            // The slot may have been freed and reused between lookup and lock
+            if (!holds(slot, id)) throw SessionRepository.notFound(sessionId);
+            GameSession session = read(slot, sessionId);
+            T result = mutation.apply(session);
+            write(slot, id, slotBuffer(slot).get(slotOffset(slot) + ALGORITHM), session);
+            return result;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(String sessionId) {
+        UUID id = parse(sessionId);
+        if (id == null) return;
+
+        indexLock.writeLock().lock();
+        try {
+            int entry = findEntry(id);
+            if (entry < 0) return;
+            int slot = index.getInt(entry + 16) - 1;
+            index.putInt(entry + 16, ENTRY_DELETED);
+            if (++tombstones > (indexMask + 1) / 4) rehash();
+
+            ReentrantLock stripe = stripe(slot);
+            stripe.lock();
+            try {
+                ByteBuffer chunk = slotBuffer(slot);
+                int off = slotOffset(slot);
+                chunk.putLong(off + ID_MSB, 0);
+                chunk.putLong(off + ID_LSB, 0);
+            } finally {
+                stripe.unlock();
+            }
+            freeSlots[freeCount++] = slot;
+            size--;
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
+
+    /** Number of live sessions. */
+    public int size() {
+        indexLock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    /** Number of index entries (a power of two). */
+    int indexCapacity() {
+        return indexMask + 1;
+    }
+
+    // ─────────────────────────────────────────────────────────
+    // SLOTS
+    // ─────────────────────────────────────────────────────────
+
+    private void write(int slot, UUID id, int algorithm, GameSession session) {
+        ByteBuffer chunk = slotBuffer(slot);
+        int off = slotOffset(slot);
+        PackedHistory history = session.getHistory();
+        int played = history.size();
+
+        chunk.putLong(off + ID_MSB, id.getMostSignificantBits());
+        chunk.putLong(off + ID_LSB, id.getLeastSignificantBits());
+        chunk.putShort(off + PLAYED, (short) played);
+        chunk.putShort(off + TOTAL_ROUNDS, (short) session.getTotalRounds());
+        chunk.put(off + ALGORITHM, (byte) algorithm);
+        chunk.put(off + FLAGS, (byte) (session.isRandomMode() ? 1 : 0));
+        for (int i = 0; i < PackedHistory.wordsFor(played); i++) {
+            chunk.putLong(off + MOVES + i * Long.BYTES, history.word(i));
+        }
+    }
+
+    private GameSession read(int slot, String sessionId) {
+        ByteBuffer chunk = slotBuffer(slot);
+        int off = slotOffset(slot);
+        int played = chunk.getShort(off + PLAYED);
+
+        long[] words = new long[PackedHistory.wordsFor(played)];
+        for (int i = 0; i < words.length; i++) words[i] = chunk.getLong(off + MOVES + i * Long.BYTES);
+
+        String algorithmId;
+        synchronized (algorithmIds) {
+            algorithmId = algorithmIds.get(chunk.get(off + ALGORITHM) & 0xFF);
+        }
+        return new GameSession(sessionId, algorithmId, chunk.getShort(off + TOTAL_ROUNDS),
+            (chunk.get(off + FLAGS) & 1) != 0, PackedHistory.fromWords(words, played));
+    }
+
+    private boolean holds(int slot, UUID id) {
+        ByteBuffer chunk = slotBuffer(slot);
+        int off = slotOffset(slot);
+        return chunk.getLong(off + ID_MSB) == id.getMostSignificantBits()
+            && chunk.getLong(off + ID_LSB) == id.getLeastSignificantBits();
+    }
+
+    /** Caller holds the index write lock. */
+    private int allocateSlot() {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else if (nextUnused < capacity) {
+            slot = nextUnused++;
+            if (chunks[slot / CHUNK_SLOTS] == null) {
+                chunks[slot / CHUNK_SLOTS] = ByteBuffer.allocateDirect(CHUNK_SLOTS * SLOT_BYTES);
+            }
+        } else {
+            throw new IllegalStateException("Session store is full (" + capacity + " sessions)");
+        }
+        size++;
+        return slot;
+    }
+
+    private ByteBuffer slotBuffer(int slot) { return chunks[slot / CHUNK_SLOTS]; }
+    private int slotOffset(int slot)        { return (slot % CHUNK_SLOTS) * SLOT_BYTES; }
+    private ReentrantLock stripe(int slot)  { return stripes[slot % LOCK_STRIPES]; }
+
+    private int algorithmIndex(String algorithmId) {
+        synchronized (algorithmIds) {
+            int i = algorithmIds.indexOf(algorithmId);
+            if (i >= 0) return i;
+            if (algorithmIds.size() > 0xFF) throw new IllegalStateException("Too many distinct algorithms");
+            algorithmIds.add(algorithmId);
+            return algorithmIds.size() - 1;
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────
+    // INDEX
+    // ─────────────────────────────────────────────────────────
+
+    private int lookup(UUID id) {
+        indexLock.readLock().lock();
+        try {
+            int entry = findEntry(id);
+            return entry < 0 ? -1 : index.getInt(entry + 16) - 1;
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    /** Byte offset of the live entry for id, or -1. Caller holds the index lock. */
+    private int findEntry(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        for (int i = hash(id), n = 0; n <= indexMask; i = (i + 1) & indexMask, n++) {
+            int entry = i * ENTRY_BYTES;
+            int ref = index.getInt(entry + 16);
+            if (ref == ENTRY_EMPTY) return -1;
+            if (ref != ENTRY_DELETED && index.getLong(entry) == msb && index.getLong(entry + 8) == lsb) return entry;
+        }
+        return -1;
+    }
+
+    /** Caller holds the index write lock and has checked id is absent. */
+    private void insertEntry(UUID id, int slot) {
+        for (int i = hash(id); ; i = (i + 1) & indexMask) {
+            int entry = i * ENTRY_BYTES;
+            int ref = index.getInt(entry + 16);
+            if (ref == ENTRY_EMPTY || ref == ENTRY_DELETED) {
+                if (ref == ENTRY_DELETED) tombstones--;
+                index.putLong(entry, id.getMostSignificantBits());
+                index.putLong(entry + 8, id.getLeastSignificantBits());
+                index.putInt(entry + 16, slot + 1);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Rebuild the index without tombstones, so lookups of absent ids keep
+     * hitting an empty entry quickly. Caller holds the index write lock.
+     */
+    private void rehash() {
+        ByteBuffer old = index;
+        index = ByteBuffer.allocateDirect(old.capacity());
+        tombstones = 0;
+        for (int entry = 0; entry < old.capacity(); entry += ENTRY_BYTES) {
+            int ref = old.getInt(entry + 16);
+            if (ref > 0) insertEntry(new UUID(old.getLong(entry), old.getLong(entry + 8)), ref - 1);
+        }
+    }
+
+    private int hash(UUID id) {
+        long h = id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+        h ^= h >>> 29;
+        h *= 0xBF58476D1CE4E5B9L;
+        return (int) (h ^ (h >>> 32)) & indexMask;
+    }
+
+    private static UUID parse(String sessionId) {
+        try {
+            return sessionId == null ? null : UUID.fromString(sessionId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.axelrod.game.session;
+
+import com.axelrod.game.model.GameSession;
+import com.axelrod.game.model.PackedHistory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Compact binary form of a GameSession, used by stores that keep sessions
+ * outside the JVM heap.
+ *
+ * Layout (big-endian):
+ *   byte    version
+ *   long×2  session UUID (msb, lsb)
+ *   byte    algorithm id length, then UTF-8 bytes
+ *   short   total rounds
+ *   byte    flags (bit 0 = random mode)
+ *   short   rounds played
+ *   long×n  PackedHistory words, 2 bits per round
+ *
+ * Scores are not stored; they are recomputed from the history on decode.
+ */
+public final class SessionCodec {
+
+    private static final byte VERSION = 1;
+    private static final int MAX_ALGORITHM_ID_BYTES = 64;
+    private static final int FIXED_BYTES = 1 + 16 + 1 + 2 + 1 + 2;
+
+    private SessionCodec() {}
+
+    /** Encoded size of a session with the given algorithm id and round count. */
+    public static int encodedSize(String algorithmId, int totalRounds) {
+        return FIXED_BYTES
+            + algorithmId.getBytes(StandardCharsets.UTF_8).length
+            + PackedHistory.wordsFor(totalRounds) * Long.BYTES;
+    }
+
+    /** Write the session at the buffer's position and return the number of bytes written. */
+    public static int encode(GameSession session, ByteBuffer out) {
+        byte[] algo = session.getAlgorithmId().getBytes(StandardCharsets.UTF_8);
+        if (algo.length > MAX_ALGORITHM_ID_BYTES) {
+            throw new IllegalArgumentException("Algorithm id too long: " + session.getAlgorithmId());
+        }
+        if (session.getTotalRounds() > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many rounds to encode: " + session.getTotalRounds());
+        }
+
+        int start = out.position();
+        UUID id = UUID.fromString(session.getSessionId());
+        PackedHistory history = session.getHistory();
+        int played = history.size();
+
+        out.put(VERSION);
+        out.putLong(id.getMostSignificantBits());
+        out.putLong(id.getLeastSignificantBits());
+        out.put((byte) algo.length);
+        out.put(algo);
+        out.putShort((short) session.getTotalRounds());
+        out.put((byte) (session.isRandomMode() ? 1 : 0));
+        out.putShort((short) played);
+        for (int i = 0; i < PackedHistory.wordsFor(played); i++) out.putLong(history.word(i));
+
+        return out.position() - start;
+    }
+
+    public static byte[] encode(GameSession session) {
+        ByteBuffer buf = ByteBuffer.allocate(encodedSize(session.getAlgorithmId(), session.getTotalRounds()));
+        encode(session, buf);
+        return buf.array();
+    }
+
+    /** Read a session from the buffer's position. */
+    public static GameSession decode(ByteBuffer in) {
+        byte version = in.get();
+        if (version != VERSION) throw new IllegalStateException("Unsupported session encoding version: " + version);
+
+        UUID id = new UUID(in.getLong(), in.getLong());
+        byte[] algo = new byte[in.get()];
+        in.get(algo);
+        int totalRounds = in.getShort();
+        boolean randomMode = (in.get() & 1) != 0;
+        int played = in.getShort();
+
+        long[] words = new long[PackedHistory.wordsFor(played)];
+        for (int i = 0; i < words.length; i++) words[i] = in.getLong();
+
+        return new GameSession(id.toString(), new String(algo, StandardCharsets.UTF_8),
+            totalRounds, randomMode, PackedHistory.fromWords(words, played));
+    }
+
+    public static GameSession decode(byte[] bytes) {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    /** Reads only the session UUID from an encoded session at the given absolute offset. */
+    static UUID peekId(ByteBuffer buf, int offset) {
+        return new UUID(buf.getLong(offset + 1), buf.getLong(offset + 9));
+    }
+}
@@ -0,0 +1,40 @@
+package com.axelrod.game.session;
+
+import com.axelrod.game.model.GameSession;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Storage for live game sessions.
+ *
+ * Implementations may keep sessions on-heap or serialize them into a shared
+ * store, so callers must treat a GameSession obtained from findById() as a
+ * snapshot and go through update() for any change.
+ */
+public interface SessionRepository {
+
+    /** Store a newly created session. */
+    void save(GameSession session);
+
+    /** Snapshot of the session, if it exists. */
+    Optional<GameSession> findById(String sessionId);
+
+    /**
+     * Atomic read-modify-write of one session.
+     * The mutation runs while the session is exclusively held; whatever it
+     * leaves in the session is persisted before update() returns. If the
+     * mutation throws, nothing is written.
+     *
+     * @throws NoSuchElementException if the session does not exist.
+     */
+    <T> T update(String sessionId, Function<GameSession, T> mutation);
+
+    /** Remove the session; no-op if absent. */
+    void deleteById(String sessionId);
+
+    static NoSuchElementException notFound(String sessionId) {
+        return new NoSuchElementException("Session not found: " + sessionId);
+    }
+}
@@ -0,0 +1,45 @@
+package com.axelrod.game.session;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Selects the session store via game.session.store:
+ *   memory  (default) — on-heap map, single node only
+ *   mapped            — memory-mapped file shared by every node that maps it
+ *   offheap           — fixed-layout slots outside the Java heap, single node
+ */
+@Configuration
+public class SessionStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "game.session.store", havingValue = "memory", matchIfMissing = true)
+    public SessionRepository inMemorySessionRepository() {
+        return new InMemorySessionRepository();
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "game.session.store", havingValue = "mapped")
+    public SessionRepository mappedFileSessionRepository(
+            @Value("${game.session.mapped.path}") String path,
+            @Value("${game.session.mapped.slots}") int slots,
+            @Value("${game.session.mapped.slot-size}") int slotSize,
+            @Value("${game.session.mapped.ttl}") Duration ttl) throws IOException {
+        MappedFileSessionRepository repository = new MappedFileSessionRepository(Path.of(path), slots, slotSize, ttl);
+        repository.start();
+        return repository;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "game.session.store", havingValue = "offheap")
+    public SessionRepository offHeapSessionRepository(
+            @Value("${game.session.offheap.capacity}") int capacity) {
+        return new OffHeapSessionRepository(capacity);
+    }
+}
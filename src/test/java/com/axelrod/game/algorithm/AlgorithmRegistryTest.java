@@ -0,0 +1,41 @@
+package com.axelrod.game.algorithm;
+
+import com.axelrod.game.model.Choice;
+import org.junit.jupiter.api.Test;
+
+import static com.axelrod.game.algorithm.TestStrategies.always;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AlgorithmRegistryTest {
+
+    private final AlgorithmRegistry registry = new AlgorithmRegistry();
+
+    @Test
+    void unregisteringAReplacedContributionKeepsTheLiveOne() {
+        Algorithm fromJarA = always("x", Choice.C);
+        Algorithm fromJarB = always("x", Choice.C);
+        registry.register(fromJarA);
+        registry.register(fromJarB);
+
+        registry.unregister(fromJarA);
+
+        assertSame(fromJarB, registry.find("x").orElseThrow());
+        assertEquals(13, registry.all().size());
+
+        registry.unregister(fromJarB);
+        assertTrue(registry.find("x").isEmpty());
+        assertEquals(12, registry.all().size());
+    }
+
+    @Test
+    void builtInsCannotBeReplacedOrRemoved() {
+        Algorithm titForTat = registry.find("tit_for_tat").orElseThrow();
+        assertThrows(IllegalArgumentException.class, () -> registry.register(always("tit_for_tat", Choice.C)));
+
+        registry.unregister(titForTat);
+        assertSame(titForTat, registry.find("tit_for_tat").orElseThrow());
+    }
+}
@@ -0,0 +1,29 @@
+package com.axelrod.game.algorithm;
+
+import com.axelrod.game.model.AlgorithmMeta;
+import com.axelrod.game.model.Choice;
+import com.axelrod.game.model.RoundRecord;
+
+import java.util.List;
+import java.util.function.Function;
+
+/** Stand-ins for contributed (non built-in) strategies in tests. */
+public final class TestStrategies {
+
+    private TestStrategies() {}
+
+    /** A strategy with the given id whose decide() delegates to {@code decide}. */
+    public static Algorithm strategy(String id, Function<List<RoundRecord>, Choice> decide) {
+        AlgorithmMeta meta = new AlgorithmMeta(id, id.toUpperCase(), "", "mixed", "Mixed", null, null);
+        return new Algorithm() {
+            @Override public String getId()          { return id; }
+            @Override public AlgorithmMeta getMeta() { return meta; }
+            @Override public Choice decide(List<RoundRecord> history) { return decide.apply(history); }
+        };
+    }
+
+    /** A strategy that always plays {@code move}. */
+    public static Algorithm always(String id, Choice move) {
+        return strategy(id, history -> move);
+    }
+}
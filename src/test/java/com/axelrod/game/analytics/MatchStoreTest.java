@@ -0,0 +1,69 @@
+package com.axelrod.game.analytics;
+
+import com.axelrod.game.model.Choice;
+import com.axelrod.game.model.Dto.AnalyticsRow;
+import com.axelrod.game.model.GameSession;
+import com.axelrod.game.model.RoundRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MatchStoreTest {
+
+    private final MatchStore store = new MatchStore();
+
+    @BeforeEach
+    void recordMatches() {
+        store.record(match("grudger", 5, Choice.D, Choice.C));       // player wins
+        store.record(match("grudger", 5, Choice.C, Choice.C));       // draw
+        store.record(match("grudger", 10, Choice.C, Choice.D));      // player loses
+        store.record(match("tit_for_tat", 10, Choice.D, Choice.C));  // player wins
+    }
+
+    @Test
+    void groupsBySingleDimension() {
+        assertEquals(List.of("grudger", "tit_for_tat"), groups(store.query(null, null, null, null)));
+        assertEquals(List.of("5", "10"), groups(store.query("rounds", null, null, null)));
+        assertEquals(List.of("WIN", "DRAW", "LOSE"), groups(store.query("result", null, null, null)));
+        assertEquals(4, store.query("none", null, null, null).getFirst().matches());
+    }
+
+    @Test
+    void groupsByAlgorithmAndRounds() {
+        List<AnalyticsRow> rows = store.query("algorithm,rounds", null, null, null);
+
+        assertEquals(List.of("grudger,5", "grudger,10", "tit_for_tat,10"), groups(rows));
+        assertEquals(2, rows.get(0).matches());
+        assertEquals(1, rows.get(0).wins());
+        assertEquals(1, rows.get(0).draws());
+        assertEquals(1, rows.get(1).losses());
+        assertEquals(1, rows.get(2).wins());
+    }
+
+    @Test
+    void groupsByAllDimensionsWithFilters() {
+        List<AnalyticsRow> rows = store.query("result, rounds, algorithm", "grudger", 5, 5);
+        assertEquals(List.of("grudger,5,WIN", "grudger,5,DRAW"), groups(rows));
+    }
+
+    @Test
+    void rejectsUnknownOrRepeatedDimensions() {
+        assertThrows(IllegalArgumentException.class, () -> store.query("algorithm,colour", null, null, null));
+        assertThrows(IllegalArgumentException.class, () -> store.query("rounds,rounds", null, null, null));
+        assertThrows(IllegalArgumentException.class, () -> store.query("none,rounds", null, null, null));
+    }
+
+    private static GameSession match(String algorithm, int rounds, Choice player, Choice opponent) {
+        GameSession session = new GameSession(algorithm, rounds, false);
+        for (int i = 0; i < rounds; i++) session.addRound(RoundRecord.of(player, opponent));
+        return session;
+    }
+
+    private static List<String> groups(List<AnalyticsRow> rows) {
+        return rows.stream().map(AnalyticsRow::group).toList();
+    }
+}
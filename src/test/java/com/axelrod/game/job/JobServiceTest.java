@@ -0,0 +1,80 @@
+package com.axelrod.game.job;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobServiceTest {
+
+    private final JobService service = new JobService(1, 10, Duration.ofMinutes(1), 100);
+
+    @AfterEach
+    void shutdown() {
+        service.shutdown();
+    }
+
+    @Test
+    void queuedJobsStartHighestPriorityFirst() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+        Job blocker = service.submit("blocker", 0, 1, job -> release.await(5, TimeUnit.SECONDS));
+
+        service.submit("low", -1, 1, job -> order.add("low"));
+        service.submit("first-normal", 0, 1, job -> order.add("first-normal"));
+        Job last = service.submit("second-normal", 0, 1, job -> order.add("second-normal"));
+        service.submit("high", 5, 1, job -> order.add("high"));
+        release.countDown();
+
+        awaitFinished(blocker);
+        awaitFinished(last);
+        awaitFinished(service.submit("tail", -10, 1, job -> null));
+        assertEquals(List.of("high", "first-normal", "second-normal", "low"), order);
+    }
+
+    @Test
+    void cancelStopsARunningJobAtItsNextCheck() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        Job job = service.submit("spin", 0, 1, j -> {
+            running.countDown();
+            while (true) j.checkCancelled();
+        });
+
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        assertTrue(service.cancel(job.getJobId()));
+        awaitFinished(job);
+        assertEquals(JobStatus.CANCELLED, job.getStatus());
+        assertFalse(service.cancel(job.getJobId()));
+    }
+
+    @Test
+    void cancelledQueuedJobNeverRuns() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Job blocker = service.submit("blocker", 0, 1, job -> release.await(5, TimeUnit.SECONDS));
+        CountDownLatch ran = new CountDownLatch(1);
+        Job queued = service.submit("queued", 0, 1, job -> { ran.countDown(); return null; });
+
+        assertTrue(service.cancel(queued.getJobId()));
+        assertEquals(JobStatus.CANCELLED, queued.getStatus());
+        release.countDown();
+        awaitFinished(blocker);
+        awaitFinished(service.submit("after", 0, 1, job -> null));
+        assertEquals(1, ran.getCount());
+    }
+
+    private static void awaitFinished(Job job) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!job.getStatus().isFinished()) {
+            if (System.nanoTime() > deadline) throw new AssertionError("Job " + job.getType() + " did not finish");
+            Thread.sleep(5);
+        }
+    }
+}
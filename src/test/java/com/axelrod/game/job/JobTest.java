@@ -0,0 +1,23 @@
+package com.axelrod.game.job;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JobTest {
+
+    @Test
+    void keepsOnlyTheMostRecentPartialResults() {
+        Job job = new Job("tournament", 0, 1, 10, 3);
+        for (int i = 0; i < 5; i++) job.emit(i);
+
+        assertEquals(List.of(2, 3, 4), job.partialResults(2).items());
+        assertEquals(List.of(4), job.partialResults(4).items());
+        assertEquals(new Job.Page(5, List.of()), job.partialResults(100_000));
+        assertEquals(5, job.toResponse().partialResults());
+        assertThrows(IllegalArgumentException.class, () -> job.partialResults(1));
+    }
+}
@@ -0,0 +1,48 @@
+package com.axelrod.game.job;
+
+import com.axelrod.game.algorithm.AlgorithmRegistry;
+import com.axelrod.game.model.Dto.JobRequest;
+import com.axelrod.game.service.MatchEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SimulationJobsTest {
+
+    private final JobService jobService = new JobService(1, 10, Duration.ofMinutes(1), 100);
+    private final SimulationJobs jobs = new SimulationJobs(jobService, new AlgorithmRegistry(), new MatchEngine(), 10_000);
+
+    @AfterEach
+    void shutdown() {
+        jobService.shutdown();
+    }
+
+    @Test
+    void clampsPriority() {
+        List<String> two = List.of("tit_for_tat", "grudger");
+        assertEquals(SimulationJobs.MAX_PRIORITY, jobs.submit(request("tournament", 1_000_000, two, 10, null)).getPriority());
+        assertEquals(SimulationJobs.MIN_PRIORITY, jobs.submit(request("tournament", Integer.MIN_VALUE, two, 10, null)).getPriority());
+    }
+
+    @Test
+    void rejectsJobsOverTheRoundBudget() {
+        List<String> two = List.of("tit_for_tat", "grudger");   // 3 pairings × 1 repetition
+
+        jobs.submit(request("tournament", 0, two, 3_333, null));
+        assertThrows(IllegalArgumentException.class, () -> jobs.submit(request("tournament", 0, two, 3_334, null)));
+        assertThrows(IllegalArgumentException.class, () -> jobs.submit(request("evolution", 0, two, 3_334, null)));
+        assertThrows(IllegalArgumentException.class,
+            () -> jobs.submit(request("sweep", 0, two, null, List.of(2_000, 2_000, 1_334))));
+        assertThrows(IllegalArgumentException.class,
+            () -> jobs.submit(request("sweep", 0, two, null, List.of(2_000, 1_334, 1))));
+    }
+
+    private static JobRequest request(String type, Integer priority, List<String> ids, Integer rounds, List<Integer> roundCounts) {
+        return new JobRequest(type, priority, ids, rounds, 1, roundCounts, 1);
+    }
+}
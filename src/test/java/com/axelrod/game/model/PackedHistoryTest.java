@@ -0,0 +1,81 @@
+package com.axelrod.game.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PackedHistoryTest {
+
+    @Test
+    void packsTwoBitsPerRoundAcrossWordBoundaries() {
+        PackedHistory h = new PackedHistory(1);   // forces growth past the first word
+        h.append(Choice.C, Choice.C);
+        h.append(Choice.D, Choice.C);
+        h.append(Choice.C, Choice.D);
+        h.append(Choice.D, Choice.D);
+        for (int i = 4; i < 70; i++) h.append(Choice.C, i % 2 == 0 ? Choice.D : Choice.C);
+
+        assertEquals(70, h.size());
+        assertEquals(0b11_10_01_00L, h.word(0) & 0xFF);
+        assertEquals(0, h.code(0));
+        assertEquals(1, h.code(1));
+        assertEquals(2, h.code(2));
+        assertEquals(3, h.code(3));
+        assertEquals(2, h.code(32));   // first round of the second word
+        assertEquals(0, h.code(69));   // third word
+        assertSame(RoundRecord.of(Choice.D, Choice.D), h.get(3));
+    }
+
+    @Test
+    void keepsRunningDefectionCounts() {
+        PackedHistory h = new PackedHistory();
+        h.add(RoundRecord.of(Choice.D, Choice.C));
+        h.add(RoundRecord.of(Choice.D, Choice.D));
+        h.add(RoundRecord.of(Choice.C, Choice.D));
+
+        assertEquals(2, h.playerDefections());
+        assertEquals(2, h.opponentDefections());
+    }
+
+    @Test
+    void fromWordsRestoresRoundsAndCounts() {
+        Random rnd = new Random(7);
+        PackedHistory h = new PackedHistory();
+        for (int i = 0; i < 100; i++) h.appendCode(rnd.nextInt(4));
+
+        long[] words = new long[PackedHistory.wordsFor(h.size())];
+        for (int i = 0; i < words.length; i++) words[i] = h.word(i);
+        PackedHistory copy = PackedHistory.fromWords(words, h.size());
+
+        assertEquals(h, copy);
+        assertEquals(h.playerDefections(), copy.playerDefections());
+        assertEquals(h.opponentDefections(), copy.opponentDefections());
+    }
+
+    @Test
+    void mirroredSwapsTheTwoSides() {
+        Random rnd = new Random(11);
+        PackedHistory h = new PackedHistory();
+        for (int i = 0; i < 70; i++) h.appendCode(rnd.nextInt(4));
+
+        PackedHistory m = h.mirrored();
+        assertEquals(h.size(), m.size());
+        for (int i = 0; i < h.size(); i++) {
+            assertEquals(h.get(i).playerChoice(), m.get(i).opponentChoice());
+            assertEquals(h.get(i).opponentChoice(), m.get(i).playerChoice());
+        }
+        assertEquals(h.playerDefections(), m.opponentDefections());
+        assertEquals(h.opponentDefections(), m.playerDefections());
+    }
+
+    @Test
+    void wordsForRoundsUp() {
+        assertEquals(0, PackedHistory.wordsFor(0));
+        assertEquals(1, PackedHistory.wordsFor(1));
+        assertEquals(1, PackedHistory.wordsFor(32));
+        assertEquals(2, PackedHistory.wordsFor(33));
+    }
+}
@@ -0,0 +1,74 @@
+package com.axelrod.game.plugin;
+
+import com.axelrod.game.model.Choice;
+import com.axelrod.game.model.PackedHistory;
+import com.axelrod.game.model.RoundRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.axelrod.game.algorithm.TestStrategies.strategy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SandboxedAlgorithmTest {
+
+    private static final StrategyBudget GENEROUS = new StrategyBudget(Duration.ofSeconds(1), 64 << 20, Duration.ofSeconds(5), 3);
+
+    private SandboxedAlgorithm sandboxed;
+
+    @AfterEach
+    void shutdown() {
+        if (sandboxed != null) sandboxed.shutdown();
+    }
+
+    @Test
+    void strategyCannotModifyTheCallersHistory() {
+        sandboxed = sandbox(history -> {
+            history.add(RoundRecord.of(Choice.D, Choice.D));   // rejected: read-only snapshot
+            return Choice.D;
+        }, GENEROUS);
+        PackedHistory history = new PackedHistory();
+        history.append(Choice.C, Choice.C);
+
+        assertEquals(Choice.C, sandboxed.decide(history));   // the exception means fallback
+        assertEquals(1, history.size());
+        assertEquals(1, sandboxed.status().failures());
+    }
+
+    @Test
+    void overBudgetCallFallsBackToCooperation() {
+        StrategyBudget tinyAllocation = new StrategyBudget(Duration.ofSeconds(1), 1, Duration.ofSeconds(5), 100);
+        sandboxed = sandbox(history -> {
+            byte[][] garbage = new byte[64][];
+            for (int i = 0; i < garbage.length; i++) garbage[i] = new byte[1024];
+            return garbage.length > 0 ? Choice.D : Choice.C;
+        }, tinyAllocation);
+
+        assertEquals(Choice.C, sandboxed.decide(new PackedHistory()));
+        assertEquals(1, sandboxed.status().allocationViolations());
+    }
+
+    @Test
+    void quarantinesAfterRepeatedViolations() {
+        boolean[] removed = new boolean[1];
+        sandboxed = new SandboxedAlgorithm(strategy("contributed", history -> { throw new IllegalStateException(); }),
+            "test.jar", GENEROUS, 1, s -> removed[0] = true);
+
+        for (int i = 0; i < 2; i++) sandboxed.decide(List.of());
+        assertFalse(sandboxed.isQuarantined());
+        sandboxed.decide(List.of());
+        assertTrue(sandboxed.isQuarantined());
+        assertTrue(removed[0]);
+        assertTrue(sandboxed.isShutdown());
+        assertEquals(Choice.C, sandboxed.decide(List.of()));
+    }
+
+    private static SandboxedAlgorithm sandbox(Function<List<RoundRecord>, Choice> decide, StrategyBudget budget) {
+        return new SandboxedAlgorithm(strategy("contributed", decide), "test.jar", budget, 1, s -> {});
+    }
+}
@@ -0,0 +1,37 @@
+package com.axelrod.game.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClientRateLimiterTest {
+
+    @Test
+    void limitsEachClientIndependently() {
+        ClientRateLimiter limiter = new ClientRateLimiter("start", 1, 2, 100);
+
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a") > 0);
+        assertEquals(0, limiter.tryAcquire("b"));
+    }
+
+    @Test
+    void unknownClientsShareTheOverflowBucketWhenFull() {
+        ClientRateLimiter limiter = new ClientRateLimiter("start", 1, 1, 2);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        assertEquals(0, limiter.tryAcquire("c"));       // overflow bucket's only token
+        assertTrue(limiter.tryAcquire("d") > 0);        // same overflow bucket
+        assertEquals(2, limiter.trackedClients());
+    }
+
+    @Test
+    void rejectsInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new ClientRateLimiter("x", 0, 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new ClientRateLimiter("x", 1, 0, 10));
+    }
+}
@@ -0,0 +1,71 @@
+package com.axelrod.game.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    // 10 tokens/s, burst 4
+    private static final long INTERVAL = 100_000_000L;
+    private static final long TOLERANCE = 3 * INTERVAL;
+
+    @Test
+    void allowsBurstThenReportsWaitUntilNextToken() {
+        long now = 1_000_000_000L;
+        TokenBucket bucket = new TokenBucket(now);
+
+        for (int i = 0; i < 4; i++) assertEquals(0, bucket.tryAcquire(now, INTERVAL, TOLERANCE));
+        assertEquals(INTERVAL, bucket.tryAcquire(now, INTERVAL, TOLERANCE));
+        assertEquals(INTERVAL - 30_000_000L, bucket.tryAcquire(now + 30_000_000L, INTERVAL, TOLERANCE));
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        long now = 0;
+        TokenBucket bucket = new TokenBucket(now);
+        for (int i = 0; i < 4; i++) bucket.tryAcquire(now, INTERVAL, TOLERANCE);
+
+        now += INTERVAL;
+        assertEquals(0, bucket.tryAcquire(now, INTERVAL, TOLERANCE));
+        assertTrue(bucket.tryAcquire(now, INTERVAL, TOLERANCE) > 0);
+
+        now += 2 * INTERVAL;
+        assertEquals(0, bucket.tryAcquire(now, INTERVAL, TOLERANCE));
+        assertEquals(0, bucket.tryAcquire(now, INTERVAL, TOLERANCE));
+        assertTrue(bucket.tryAcquire(now, INTERVAL, TOLERANCE) > 0);
+    }
+
+    @Test
+    void rejectedRequestsDoNotConsumeTokens() {
+        long now = 0;
+        TokenBucket bucket = new TokenBucket(now);
+        for (int i = 0; i < 4; i++) bucket.tryAcquire(now, INTERVAL, TOLERANCE);
+        for (int i = 0; i < 100; i++) bucket.tryAcquire(now, INTERVAL, TOLERANCE);
+
+        assertEquals(0, bucket.tryAcquire(now + INTERVAL, INTERVAL, TOLERANCE));
+    }
+
+    @Test
+    void idleOnceFullyRefilled() {
+        long now = 0;
+        TokenBucket bucket = new TokenBucket(now);
+        assertTrue(bucket.isIdle(now));
+
+        bucket.tryAcquire(now, INTERVAL, TOLERANCE);
+        bucket.tryAcquire(now, INTERVAL, TOLERANCE);
+        assertFalse(bucket.isIdle(now + INTERVAL));
+        assertTrue(bucket.isIdle(now + 2 * INTERVAL));
+    }
+
+    @Test
+    void burstAfterLongIdleIsCapped() {
+        TokenBucket bucket = new TokenBucket(0);
+        long later = 3_600_000_000_000L;   // an hour of idle does not bank more than the burst
+
+        for (int i = 0; i < 4; i++) assertEquals(0, bucket.tryAcquire(later, INTERVAL, TOLERANCE));
+        assertTrue(bucket.tryAcquire(later, INTERVAL, TOLERANCE) > 0);
+    }
+}
@@ -0,0 +1,62 @@
+package com.axelrod.game.service;
+
+import com.axelrod.game.algorithm.AlgorithmRegistry;
+import com.axelrod.game.analytics.MatchStore;
+import com.axelrod.game.model.Choice;
+import com.axelrod.game.model.Dto.MatchRequest;
+import com.axelrod.game.model.Dto.MatchResponse;
+import com.axelrod.game.model.Dto.PlayRoundRequest;
+import com.axelrod.game.model.Dto.RoundHistoryEntry;
+import com.axelrod.game.model.Dto.StartGameRequest;
+import com.axelrod.game.session.InMemorySessionRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.axelrod.game.algorithm.TestStrategies.always;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GameServiceMatchTest {
+
+    private final AlgorithmRegistry registry = new AlgorithmRegistry();
+    private final GameService service = new GameService(registry, new InMemorySessionRepository(), new MatchStore(),
+        new MatchEngine(), 1_000_000, 1_000, 100);
+
+    @Test
+    void builtInsMayPlayLongMatches() {
+        assertEquals(200_000, service.playMatch(new MatchRequest("tit_for_tat", "grudger", null, 200_000, false)).rounds());
+    }
+
+    @Test
+    void contributedStrategiesAreLimitedOnEitherSide() {
+        registry.register(always("contributed", Choice.D));
+
+        assertEquals(100, service.playMatch(new MatchRequest("contributed", null, "CD", 100, false)).rounds());
+        assertThrows(IllegalArgumentException.class,
+            () -> service.playMatch(new MatchRequest("contributed", null, "CD", 101, false)));
+        assertThrows(IllegalArgumentException.class,
+            () -> service.playMatch(new MatchRequest("tit_for_tat", "contributed", null, 101, false)));
+    }
+
+    @Test
+    void retaliatingStrategyDefectsFromRoundFourAgainstCCD() {
+        MatchResponse r = service.playMatch(new MatchRequest("grudger", null, "CCD", 9, true));
+
+        for (RoundHistoryEntry round : r.history()) {
+            assertEquals(round.round() < 4 ? Choice.C : Choice.D, round.playerChoice(), "grudger, round " + round.round());
+        }
+        assertEquals(2, r.mutualCoopCount());
+    }
+
+    @Test
+    void grudgerRetaliatesAgainstAHumanDefection() {
+        String id = service.startGame(new StartGameRequest("grudger", 10, false)).sessionId();
+        List<Choice> human = List.of(Choice.C, Choice.C, Choice.D, Choice.C, Choice.C);
+
+        for (int i = 0; i < human.size(); i++) {
+            Choice algo = service.playRound(new PlayRoundRequest(id, human.get(i))).opponentChoice();
+            assertEquals(i < 3 ? Choice.C : Choice.D, algo, "grudger, round " + (i + 1));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.axelrod.game.service;
+
+import com.axelrod.game.algorithm.Algorithms;
+import com.axelrod.game.model.Choice;
+import com.axelrod.game.service.MatchEngine.MatchResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.axelrod.game.model.Choice.C;
+import static com.axelrod.game.model.Choice.D;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MatchEngineTest {
+
+    private final MatchEngine engine = new MatchEngine();
+
+    @Test
+    void grudgerRetaliatesAfterTheOtherSideDefects() {
+        MatchResult r = engine.play(new Algorithms.Grudger(), MatchEngine.fixedSequence(List.of(C, C, D)), 9);
+
+        for (int i = 0; i < r.rounds(); i++) {
+            assertEquals(i < 3 ? C : D, r.history().get(i).playerChoice(), "grudger, round " + (i + 1));
+        }
+    }
+
+    @Test
+    void eachSideSeesItsOwnMovesAsPlayerChoice() {
+        // Tit for Tat copies whatever the scripted side did last round, from either seat
+        MatchResult asA = engine.play(new Algorithms.TitForTat(), MatchEngine.fixedSequence(List.of(D, C)), 6);
+        MatchResult asB = engine.play(MatchEngine.fixedSequence(List.of(D, C)), new Algorithms.TitForTat(), 6);
+
+        for (int i = 1; i < 6; i++) {
+            Choice scripted = i % 2 == 1 ? D : C;
+            assertEquals(scripted, asA.history().get(i).playerChoice());
+            assertEquals(scripted, asB.history().get(i).opponentChoice());
+        }
+        assertEquals(asA.scoreA(), asB.scoreB());
+        assertEquals(asA.scoreB(), asB.scoreA());
+    }
+}
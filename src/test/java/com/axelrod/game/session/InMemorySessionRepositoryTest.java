@@ -0,0 +1,57 @@
+package com.axelrod.game.session;
+
+import com.axelrod.game.model.Choice;
+import com.axelrod.game.model.GameSession;
+import com.axelrod.game.model.RoundRecord;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemorySessionRepositoryTest {
+
+    private final InMemorySessionRepository repo = new InMemorySessionRepository();
+
+    @Test
+    void failedUpdateWritesNothing() {
+        GameSession session = new GameSession("tit_for_tat", 10, false);
+        repo.save(session);
+
+        assertThrows(IllegalStateException.class, () -> repo.update(session.getSessionId(), s -> {
+            s.addRound(RoundRecord.of(Choice.D, Choice.C));
+            throw new IllegalStateException("boom");
+        }));
+
+        GameSession stored = repo.findById(session.getSessionId()).orElseThrow();
+        assertEquals(0, stored.getCurrentRound());
+        assertEquals(0, stored.getPlayerScore());
+        assertTrue(stored.getHistory().isEmpty());
+    }
+
+    @Test
+    void foundSessionIsASnapshot() {
+        GameSession session = new GameSession("tit_for_tat", 10, false);
+        repo.save(session);
+        GameSession before = repo.findById(session.getSessionId()).orElseThrow();
+
+        repo.update(session.getSessionId(), s -> { s.addRound(RoundRecord.of(Choice.C, Choice.C)); return null; });
+
+        assertEquals(0, before.getCurrentRound());
+        assertEquals(1, repo.findById(session.getSessionId()).orElseThrow().getCurrentRound());
+        assertEquals(3, repo.findById(session.getSessionId()).orElseThrow().getPlayerScore());
+    }
+
+    @Test
+    void updateAfterDeleteDoesNotResurrectTheSession() {
+        GameSession session = new GameSession("tit_for_tat", 10, false);
+        repo.save(session);
+        repo.update(session.getSessionId(), s -> {
+            repo.deleteById(s.getSessionId());
+            s.addRound(RoundRecord.of(Choice.C, Choice.C));
+            return null;
+        });
+
+        assertTrue(repo.findById(session.getSessionId()).isEmpty());
+    }
+}
@@ -0,0 +1,139 @@
+package com.axelrod.game.session;
+
+import com.axelrod.game.model.Choice;
+import com.axelrod.game.model.GameSession;
+import com.axelrod.game.model.RoundRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedFileSessionRepositoryTest {
+
+    private static final int SLOTS = 16;
+
+    @TempDir
+    Path dir;
+
+    private MappedFileSessionRepository repo;
+
+    @BeforeEach
+    void open() throws IOException {
+        repo = new MappedFileSessionRepository(dir.resolve("sessions.dat"), SLOTS, 256, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void close() throws IOException {
+        repo.close();
+    }
+
+    @Test
+    void savesUpdatesAndDeletes() {
+        GameSession session = new GameSession("tit_for_tat", 10, false);
+        repo.save(session);
+
+        int round = repo.update(session.getSessionId(), s -> {
+            s.addRound(RoundRecord.of(Choice.D, Choice.C));
+            return s.getCurrentRound();
+        });
+
+        assertEquals(1, round);
+        assertEquals(5, repo.findById(session.getSessionId()).orElseThrow().getPlayerScore());
+
+        repo.deleteById(session.getSessionId());
+        assertTrue(repo.findById(session.getSessionId()).isEmpty());
+        assertThrows(NoSuchElementException.class, () -> repo.update(session.getSessionId(), s -> null));
+    }
+
+    @Test
+    void sessionsSurviveReopen() throws IOException {
+        GameSession session = new GameSession("grudger", 10, true);
+        repo.save(session);
+        repo.close();
+
+        repo = new MappedFileSessionRepository(dir.resolve("sessions.dat"), SLOTS, 256, Duration.ofHours(1));
+        assertEquals("grudger", repo.findById(session.getSessionId()).orElseThrow().getAlgorithmId());
+    }
+
+    @Test
+    void deletedSlotsAreReusedIndefinitely() {
+        // Far more games than slots, each deleted like the browser does
+        for (int i = 0; i < SLOTS * 50; i++) {
+            GameSession session = new GameSession("tit_for_tat", 5, false);
+            repo.save(session);
+            repo.deleteById(session.getSessionId());
+        }
+
+        List<GameSession> live = new ArrayList<>();
+        for (int i = 0; i < SLOTS; i++) {
+            GameSession session = new GameSession("tit_for_tat", 5, false);
+            repo.save(session);
+            live.add(session);
+        }
+        for (GameSession s : live) assertTrue(repo.findById(s.getSessionId()).isPresent());
+        assertThrows(IllegalStateException.class, () -> repo.save(new GameSession("tit_for_tat", 5, false)));
+    }
+
+    @Test
+    void entriesBehindReclaimedTombstonesStayReachable() {
+        List<GameSession> sessions = new ArrayList<>();
+        for (int i = 0; i < SLOTS - 1; i++) {
+            GameSession session = new GameSession("tit_for_tat", 5, false);
+            repo.save(session);
+            sessions.add(session);
+        }
+        for (int i = 0; i < sessions.size(); i += 2) repo.deleteById(sessions.get(i).getSessionId());
+
+        for (int i = 1; i < sessions.size(); i += 2) {
+            assertTrue(repo.findById(sessions.get(i).getSessionId()).isPresent());
+        }
+    }
+
+    @Test
+    void concurrentInsertsAndDeletesNeverLoseLiveSessions() throws Exception {
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(pool.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        GameSession session = new GameSession("tit_for_tat", 5, false);
+                        repo.save(session);
+                        repo.update(session.getSessionId(), s -> { s.addRound(RoundRecord.of(Choice.C, Choice.C)); return null; });
+                        repo.deleteById(session.getSessionId());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> w : workers) w.get(60, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void expiresIdleSessions() {
+        GameSession session = new GameSession("tit_for_tat", 5, false);
+        repo.save(session);
+
+        assertEquals(0, repo.expireIdle(System.currentTimeMillis()));
+        assertEquals(1, repo.expireIdle(System.currentTimeMillis() + Duration.ofHours(2).toMillis()));
+        assertTrue(repo.findById(session.getSessionId()).isEmpty());
+    }
+}
@@ -0,0 +1,94 @@
+package com.axelrod.game.session;
+
+import com.axelrod.game.model.Choice;
+import com.axelrod.game.model.GameSession;
+import com.axelrod.game.model.RoundRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapSessionRepositoryTest {
+
+    @Test
+    void indexIsNextPowerOfTwoAtLeastTwiceCapacity() {
+        assertEquals(2, new OffHeapSessionRepository(1).indexCapacity());
+        assertEquals(16, new OffHeapSessionRepository(8).indexCapacity());
+        assertEquals(32, new OffHeapSessionRepository(9).indexCapacity());
+        assertEquals(1 << 21, new OffHeapSessionRepository(1 << 20).indexCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapSessionRepository(0));
+    }
+
+    @Test
+    void roundTripsSessionState() {
+        OffHeapSessionRepository repo = new OffHeapSessionRepository(4);
+        GameSession session = new GameSession("tit_for_tat", 200, true);
+        repo.save(session);
+
+        repo.update(session.getSessionId(), s -> {
+            for (int i = 0; i < 100; i++) s.addRound(RoundRecord.of(i % 2 == 0 ? Choice.D : Choice.C, Choice.C));
+            return null;
+        });
+
+        GameSession copy = repo.findById(session.getSessionId()).orElseThrow();
+        assertEquals("tit_for_tat", copy.getAlgorithmId());
+        assertTrue(copy.isRandomMode());
+        assertEquals(100, copy.getCurrentRound());
+        assertEquals(50 * 5 + 50 * 3, copy.getPlayerScore());
+        assertEquals(50 * 3, copy.getOpponentScore());
+    }
+
+    @Test
+    void freedSlotsAreReusedAfterTombstoneRehash() {
+        int capacity = 8;
+        OffHeapSessionRepository repo = new OffHeapSessionRepository(capacity);
+
+        // Several generations of fill-then-delete: each deletes enough entries to force a rehash
+        for (int generation = 0; generation < 5; generation++) {
+            List<GameSession> sessions = fill(repo, capacity);
+            assertThrows(IllegalStateException.class, () -> repo.save(new GameSession("grudger", 5, false)));
+            for (GameSession s : sessions) repo.deleteById(s.getSessionId());
+            assertEquals(0, repo.size());
+            for (GameSession s : sessions) assertTrue(repo.findById(s.getSessionId()).isEmpty());
+        }
+    }
+
+    @Test
+    void entriesBehindTombstonesStayReachable() {
+        OffHeapSessionRepository repo = new OffHeapSessionRepository(64);
+        List<GameSession> sessions = fill(repo, 64);
+        for (int i = 0; i < sessions.size(); i += 2) repo.deleteById(sessions.get(i).getSessionId());
+
+        assertEquals(32, repo.size());
+        for (int i = 1; i < sessions.size(); i += 2) {
+            String id = sessions.get(i).getSessionId();
+            assertEquals(id, repo.findById(id).orElseThrow().getSessionId());
+        }
+        for (int i = 0; i < sessions.size(); i += 2) {
+            String id = sessions.get(i).getSessionId();
+            assertThrows(NoSuchElementException.class, () -> repo.update(id, s -> null));
+        }
+    }
+
+    @Test
+    void rejectsSessionsLongerThanASlot() {
+        OffHeapSessionRepository repo = new OffHeapSessionRepository(1);
+        GameSession tooLong = new GameSession("grudger", OffHeapSessionRepository.MAX_ROUNDS + 1, false);
+        assertThrows(IllegalArgumentException.class, () -> repo.save(tooLong));
+    }
+
+    private static List<GameSession> fill(OffHeapSessionRepository repo, int count) {
+        List<GameSession> sessions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            GameSession s = new GameSession(i % 2 == 0 ? "grudger" : "tit_for_tat", 5, false);
+            repo.save(s);
+            sessions.add(s);
+        }
+        return sessions;
+    }
+}
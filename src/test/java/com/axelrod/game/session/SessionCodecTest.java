@@ -0,0 +1,55 @@
+package com.axelrod.game.session;
+
+import com.axelrod.game.model.Choice;
+import com.axelrod.game.model.GameSession;
+import com.axelrod.game.model.RoundRecord;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionCodecTest {
+
+    @Test
+    void roundTripsSessionAndRecomputesScores() {
+        GameSession session = new GameSession("tit_for_tat", 40, true);
+        for (int i = 0; i < 37; i++) {
+            session.addRound(RoundRecord.of(i % 3 == 0 ? Choice.D : Choice.C, i % 5 == 0 ? Choice.D : Choice.C));
+        }
+
+        GameSession copy = SessionCodec.decode(SessionCodec.encode(session));
+
+        assertEquals(session.getSessionId(), copy.getSessionId());
+        assertEquals("tit_for_tat", copy.getAlgorithmId());
+        assertEquals(40, copy.getTotalRounds());
+        assertTrue(copy.isRandomMode());
+        assertEquals(37, copy.getCurrentRound());
+        assertEquals(session.getHistory(), copy.getHistory());
+        assertEquals(session.getPlayerScore(), copy.getPlayerScore());
+        assertEquals(session.getOpponentScore(), copy.getOpponentScore());
+    }
+
+    @Test
+    void encodedSizeIsAnUpperBoundAndIdCanBePeeked() {
+        GameSession session = new GameSession("grudger", 500, false);
+        for (int i = 0; i < 500; i++) session.addRound(RoundRecord.of(Choice.C, Choice.D));
+
+        ByteBuffer buf = ByteBuffer.allocate(SessionCodec.encodedSize("grudger", 500) + 8);
+        buf.position(8);
+        int written = SessionCodec.encode(session, buf);
+
+        assertEquals(SessionCodec.encodedSize("grudger", 500), written);
+        assertEquals(session.getSessionId(), SessionCodec.peekId(buf, 8).toString());
+        assertTrue(SessionCodec.decode(buf.flip().position(8)).isFinished());
+    }
+
+    @Test
+    void rejectsUnknownVersion() {
+        byte[] bytes = SessionCodec.encode(new GameSession("grudger", 5, false));
+        bytes[0] = 99;
+        assertThrows(IllegalStateException.class, () -> SessionCodec.decode(bytes));
+    }
+}